@@ -1,6 +1,6 @@
 import { model, ErrorStatus } from "@/model.js";
-import { API_LAST_CBOM_URL, API_CHECK_POLICY, DEFAULT_POLICY_IDENTIFIER } from "@/app.config";
-import { checkValidComplianceResults, createLocalComplianceReport, isViewerOnly } from "@/helpers.js";
+import { API_LAST_CBOM_URL, API_CBOM_URL, API_CHECK_POLICY, DEFAULT_POLICY_IDENTIFIER } from "@/app.config";
+import { checkValidComplianceResults, createLocalComplianceReport, isViewerOnly, showResultFromApi } from "@/helpers.js";
 
 
 export function fetchLastCboms(number) {
@@ -18,6 +18,19 @@ export function fetchLastCboms(number) {
     });
 }
 
+// The list of last CBOMs only contains their metadata, the CBOM itself is fetched when it is opened
+export function fetchStoredCbom(scan) {
+  let apiUrl = `${API_CBOM_URL}/${encodeURIComponent(scan.projectIdentifier)}`;
+  fetchDataFromApi(apiUrl, null)
+    .then((jsonData) => {
+      showResultFromApi(jsonData);
+    })
+    .catch((error) => {
+      console.error("Error:", error.message);
+      model.addError(ErrorStatus.NoConnection);
+    });
+}
+
 function getLocalComplianceReport(cbom) {
   let jsonDataLocal = createLocalComplianceReport(cbom);
   if (checkValidComplianceResults(jsonDataLocal)) {
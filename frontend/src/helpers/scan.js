@@ -162,6 +162,8 @@ function handleMessage(messageJson) {
     model.scanning.numberOfLines = obj["message"];
   } else if (obj["type"] === "SCANNED_DURATION") {
     model.scanning.scanDuration = obj["message"];
+  } else if (obj["type"] === "SCAN_TIMELINE") {
+    model.scanning.timeline = JSON.parse(obj["message"]);
   } else if (obj["type"] === "REVISION_HASH") {
     model.codeOrigin.commitID = obj["message"];
   } else {
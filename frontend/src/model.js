@@ -19,6 +19,7 @@ export const model = reactive({
     numberOfLines: null,
     startTime: null,
     scanDuration: null,
+    timeline: null,
     totalDuration: null,
   },
   codeOrigin: {
@@ -58,6 +59,7 @@ export const model = reactive({
     model.scanning.numberOfFiles = null;
     model.scanning.startTime = null;
     model.scanning.scanDuration = null;
+    model.scanning.timeline = null;
     model.scanning.totalDuration = null;
     model.codeOrigin.commitID = null;
     model.cbom = null;
@@ -0,0 +1,96 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.benchmarks;
+
+import com.ibm.domain.scanning.CBOM;
+import com.ibm.domain.scanning.Commit;
+import com.ibm.domain.scanning.GitUrl;
+import com.ibm.domain.scanning.Revision;
+import com.ibm.infrastructure.Configuration;
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.infrastructure.progress.IProgressDispatcher;
+import com.ibm.usecases.scanning.services.indexing.JavaIndexService;
+import com.ibm.usecases.scanning.services.indexing.ProjectModule;
+import com.ibm.usecases.scanning.services.indexing.PythonIndexService;
+import com.ibm.usecases.scanning.services.scan.ScanResultDTO;
+import com.ibm.usecases.scanning.services.scan.java.JavaScannerService;
+import com.ibm.usecases.scanning.services.scan.python.PythonScannerService;
+import jakarta.annotation.Nonnull;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Inputs shared by the benchmarks. The projects are the ones used by the functional tests in
+ * {@code src/test/testdata}, so numbers can be related to what the tests exercise.
+ */
+final class BenchmarkFixtures {
+    static final File JAVA_PROJECT = new File("src/test/testdata/java/keycloak");
+    static final File PYTHON_PROJECT = new File("src/test/testdata/python/pyca");
+    static final Path NIST_POLICY = Path.of("nist_policy.toml");
+
+    static final GitUrl GIT_URL = new GitUrl("https://github.com/keycloak/keycloak");
+    static final Revision REVISION = new Revision("main");
+    static final Commit COMMIT = new Commit("9c2825eb0e64aa7ea40b8dc3605d37046f6a24cb");
+
+    /** Progress messages are dropped, the benchmarks only measure the work behind them. */
+    static final IProgressDispatcher NO_PROGRESS = progressMessage -> {};
+
+    private BenchmarkFixtures() {}
+
+    @Nonnull
+    static String javaDependencyJARSPath() {
+        return new Configuration().getJavaDependencyJARSPath();
+    }
+
+    @Nonnull
+    static List<ProjectModule> indexJava() throws ClientDisconnected {
+        return new JavaIndexService(NO_PROGRESS, JAVA_PROJECT).index(null);
+    }
+
+    @Nonnull
+    static List<ProjectModule> indexPython() throws ClientDisconnected {
+        return new PythonIndexService(NO_PROGRESS, PYTHON_PROJECT).index(null);
+    }
+
+    @Nonnull
+    static CBOM scanJava(@Nonnull String javaDependencyJARSPath) throws ClientDisconnected {
+        final ScanResultDTO result =
+                new JavaScannerService(NO_PROGRESS, javaDependencyJARSPath, JAVA_PROJECT)
+                        .scan(GIT_URL, REVISION, COMMIT, null, indexJava());
+        return Objects.requireNonNull(result.cbom(), "java scan did not produce a CBOM");
+    }
+
+    @Nonnull
+    static CBOM scanPython() throws ClientDisconnected {
+        final ScanResultDTO result =
+                new PythonScannerService(NO_PROGRESS, PYTHON_PROJECT)
+                        .scan(GIT_URL, REVISION, COMMIT, null, indexPython());
+        return Objects.requireNonNull(result.cbom(), "python scan did not produce a CBOM");
+    }
+
+    @Nonnull
+    static String readNistPolicy() throws IOException {
+        return Files.readString(NIST_POLICY);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ibm.domain.scanning.CBOM;
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cyclonedx.model.Bom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures merging and (de)serializing CBOMs. The inputs are the CBOMs produced by scanning the
+ * java and python test projects. {@code mergeByAppending} is the baseline for {@code merge}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CBOMBenchmark {
+    private CBOM javaCBOM;
+    private JsonNode javaCBOMJson;
+    private JsonNode javaRescanCBOMJson;
+    private JsonNode pythonCBOMJson;
+
+    @Setup
+    public void setup() throws ClientDisconnected, CBOMSerializationFailed {
+        final String javaDependencyJARSPath = BenchmarkFixtures.javaDependencyJARSPath();
+        this.javaCBOM = BenchmarkFixtures.scanJava(javaDependencyJARSPath);
+        this.javaCBOMJson = javaCBOM.toJSON();
+        this.javaRescanCBOMJson = BenchmarkFixtures.scanJava(javaDependencyJARSPath).toJSON();
+        this.pythonCBOMJson = BenchmarkFixtures.scanPython().toJSON();
+    }
+
+    /**
+     * Fresh copies of the CBOMs merged by a scan: the java CBOM, a second scan of the same project
+     * (all duplicates) and the python CBOM. Merging changes the CBOMs, so they are parsed again for
+     * each invocation.
+     */
+    @State(Scope.Thread)
+    public static class MergeInput {
+        private List<CBOM> cboms;
+
+        @Setup(Level.Invocation)
+        public void setup(CBOMBenchmark benchmark) throws CBOMSerializationFailed {
+            this.cboms =
+                    List.of(
+                            CBOM.formJSON(benchmark.javaCBOMJson),
+                            CBOM.formJSON(benchmark.javaRescanCBOMJson),
+                            CBOM.formJSON(benchmark.pythonCBOMJson));
+        }
+    }
+
+    @Benchmark
+    public CBOM merge(MergeInput input) {
+        final CBOM cbom = input.cboms.getFirst();
+        for (CBOM other : input.cboms.subList(1, input.cboms.size())) {
+            cbom.merge(other);
+        }
+        return cbom;
+    }
+
+    /** The merge before de-duplication, appending all components and dependencies. */
+    @Benchmark
+    public CBOM mergeByAppending(MergeInput input) {
+        final Bom bom = input.cboms.getFirst().cycloneDXbom();
+        for (CBOM other : input.cboms.subList(1, input.cboms.size())) {
+            bom.getComponents().addAll(other.cycloneDXbom().getComponents());
+            bom.getDependencies().addAll(other.cycloneDXbom().getDependencies());
+        }
+        return input.cboms.getFirst();
+    }
+
+    @Benchmark
+    public JsonNode toJSON() throws CBOMSerializationFailed {
+        return javaCBOM.toJSON();
+    }
+
+    @Benchmark
+    public CBOM formJSON() throws CBOMSerializationFailed {
+        return CBOM.formJSON(javaCBOMJson);
+    }
+}
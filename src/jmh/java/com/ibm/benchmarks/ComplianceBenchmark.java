@@ -0,0 +1,81 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.benchmarks;
+
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.domain.scanning.CBOM;
+import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
+import com.ibm.infrastructure.compliance.service.CustomComplianceService;
+import com.ibm.infrastructure.compliance.service.custom.CustomCompliancePolicy;
+import com.ibm.infrastructure.compliance.service.custom.CustomPolicyParser;
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing the bundled {@code nist_policy.toml} and evaluating the assets of the java
+ * test project against it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComplianceBenchmark {
+    private static final PolicyIdentifier POLICY_IDENTIFIER = new PolicyIdentifier("nist");
+
+    private String policyToml;
+    private CustomComplianceService complianceService;
+    private List<CryptographicAsset> assets;
+
+    @Setup
+    public void setup() throws IOException, ClientDisconnected {
+        this.policyToml = BenchmarkFixtures.readNistPolicy();
+        this.complianceService = new CustomComplianceService(CustomPolicyParser.parse(policyToml));
+        final CBOM cbom = BenchmarkFixtures.scanJava(BenchmarkFixtures.javaDependencyJARSPath());
+        this.assets =
+                cbom.cycloneDXbom().getComponents().stream()
+                        .map(component -> new CryptographicAsset(component.getBomRef(), component))
+                        .toList();
+    }
+
+    @Benchmark
+    public CustomCompliancePolicy parse() {
+        return CustomPolicyParser.parse(policyToml);
+    }
+
+    @Benchmark
+    public ComplianceCheckResultDTO evaluate() {
+        return complianceService.evaluate(POLICY_IDENTIFIER, assets);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.benchmarks;
+
+import com.ibm.domain.scanning.GitUrl;
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.infrastructure.scanning.GitBackendMode;
+import com.ibm.usecases.scanning.errors.GitCloneFailed;
+import com.ibm.usecases.scanning.services.git.CloneResultDTO;
+import com.ibm.usecases.scanning.services.git.GitService;
+import com.ibm.usecases.scanning.services.git.IGitBackend;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code GitService.clone} with each git backend. The java test project is committed to
+ * a local bare repository, which the scanned URL is rewritten to, so that the numbers do not
+ * depend on the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GitBenchmark {
+    private static final String MIRRORED_PREFIX = "https://github.com/";
+
+    @Param({"JGIT", "NATIVE"})
+    private GitBackendMode backend;
+
+    /** The package folder to check out, or empty for the whole tree. */
+    @Param({"", "services/src/main/java/org/keycloak/authentication"})
+    private String packageFolder;
+
+    private Path workDirectory;
+    private Path cloneDirectory;
+    private GitService gitService;
+
+    @Setup
+    public void setup() throws IOException, GitAPIException {
+        this.workDirectory = Files.createTempDirectory("cbomkit-git-benchmark");
+        final File sources = this.workDirectory.resolve("sources").toFile();
+        FileUtils.copyDirectory(BenchmarkFixtures.JAVA_PROJECT, sources);
+        try (Git git = Git.init().setDirectory(sources).setInitialBranch("main").call()) {
+            git.add().addFilepattern(".").call();
+            git.commit()
+                    .setMessage("java test project")
+                    .setAuthor("cbomkit", "cbomkit@example.com")
+                    .setCommitter("cbomkit", "cbomkit@example.com")
+                    .setSign(false)
+                    .call();
+        }
+        final File bare = this.workDirectory.resolve("keycloak/keycloak").toFile();
+        try (Git git =
+                Git.cloneRepository()
+                        .setBare(true)
+                        .setURI(sources.toURI().toString())
+                        .setDirectory(bare)
+                        .call()) {
+            // lets the native backend make a partial clone of sparse folders
+            final StoredConfig config = git.getRepository().getConfig();
+            config.setBoolean("uploadpack", null, "allowFilter", true);
+            config.save();
+        }
+        this.cloneDirectory = Files.createDirectories(this.workDirectory.resolve("clones"));
+        this.gitService =
+                new GitService(
+                        BenchmarkFixtures.NO_PROGRESS,
+                        this.cloneDirectory.toString(),
+                        null,
+                        Map.of(MIRRORED_PREFIX, this.workDirectory.toUri().toString()),
+                        IGitBackend.of(this.backend));
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteClones() throws IOException {
+        FileUtils.cleanDirectory(this.cloneDirectory.toFile());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(this.workDirectory.toFile());
+    }
+
+    @Benchmark
+    public CloneResultDTO cloneRevision() throws GitCloneFailed, ClientDisconnected {
+        return this.gitService.clone(
+                new GitUrl(MIRRORED_PREFIX + "keycloak/keycloak"),
+                BenchmarkFixtures.REVISION,
+                null,
+                this.packageFolder.isEmpty() ? null : Path.of(this.packageFolder));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.benchmarks;
+
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.usecases.scanning.services.indexing.ProjectModule;
+import com.ibm.usecases.scanning.services.scan.ScanResultDTO;
+import com.ibm.usecases.scanning.services.scan.java.JavaScannerService;
+import com.ibm.usecases.scanning.services.scan.python.PythonScannerService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code JavaScannerService.scan} and {@code PythonScannerService.scan}. The projects are
+ * indexed once; a new scanner service is created per operation, like the scan process manager
+ * does, because a service collects the detections of all its scans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ScannerBenchmark {
+    /** Whether each detection is converted and sent as progress message while scanning. */
+    @Param({"true", "false"})
+    private boolean streamDetections;
+
+    private String javaDependencyJARSPath;
+    private List<ProjectModule> javaIndex;
+    private List<ProjectModule> pythonIndex;
+
+    @Setup
+    public void setup() throws ClientDisconnected {
+        this.javaDependencyJARSPath = BenchmarkFixtures.javaDependencyJARSPath();
+        this.javaIndex = BenchmarkFixtures.indexJava();
+        this.pythonIndex = BenchmarkFixtures.indexPython();
+    }
+
+    @Benchmark
+    public ScanResultDTO scanJava() throws ClientDisconnected {
+        return new JavaScannerService(
+                        BenchmarkFixtures.NO_PROGRESS,
+                        javaDependencyJARSPath,
+                        BenchmarkFixtures.JAVA_PROJECT,
+                        streamDetections)
+                .scan(
+                        BenchmarkFixtures.GIT_URL,
+                        BenchmarkFixtures.REVISION,
+                        BenchmarkFixtures.COMMIT,
+                        null,
+                        javaIndex);
+    }
+
+    @Benchmark
+    public ScanResultDTO scanPython() throws ClientDisconnected {
+        return new PythonScannerService(
+                        BenchmarkFixtures.NO_PROGRESS,
+                        BenchmarkFixtures.PYTHON_PROJECT,
+                        streamDetections)
+                .scan(
+                        BenchmarkFixtures.GIT_URL,
+                        BenchmarkFixtures.REVISION,
+                        BenchmarkFixtures.COMMIT,
+                        null,
+                        pythonIndex);
+    }
+}
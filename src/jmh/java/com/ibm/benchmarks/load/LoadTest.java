@@ -0,0 +1,209 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.benchmarks.load;
+
+import com.ibm.benchmarks.load.ScanClient.ScanOutcome;
+import jakarta.annotation.Nonnull;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jgit.util.FileUtils;
+
+/**
+ * End-to-end load test against a running CBOMkit instance (and its Postgres database).
+ *
+ * <p>Synthetic repositories are generated locally and scanned through the WebSocket API with a
+ * fixed number of concurrent scans. The server clones them from disk, so no network access is
+ * needed; it has to be started with a clone url rewrite that maps the repository prefix to the
+ * generated repositories, which is printed on start. See {@code BUILD INSTRUCTIONS.md}.
+ *
+ * <p>Options ({@code --name=value}): {@code server}, {@code scans}, {@code concurrency}, {@code
+ * repositories}, {@code modules}, {@code files-per-module}, {@code methods-per-file}, {@code
+ * crypto-density}, {@code python-share}, {@code work-dir}, {@code url-prefix}, {@code timeout}
+ * (seconds), {@code stream-detections} and {@code server-pid} (to report the peak RSS of the
+ * server).
+ */
+public final class LoadTest {
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        final Map<String, String> options = parseOptions(args);
+        final URI server = URI.create(options.getOrDefault("server", "http://localhost:8081"));
+        final int scans = Integer.parseInt(options.getOrDefault("scans", "20"));
+        final int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "4"));
+        final int repositories = Integer.parseInt(options.getOrDefault("repositories", "4"));
+        final SyntheticRepositories.Shape shape =
+                new SyntheticRepositories.Shape(
+                        Integer.parseInt(options.getOrDefault("modules", "4")),
+                        Integer.parseInt(options.getOrDefault("files-per-module", "25")),
+                        Integer.parseInt(options.getOrDefault("methods-per-file", "20")),
+                        Double.parseDouble(options.getOrDefault("crypto-density", "0.2")),
+                        Double.parseDouble(options.getOrDefault("python-share", "0.25")));
+        final Path workDir =
+                Path.of(options.getOrDefault("work-dir", "target/load-test")).toAbsolutePath();
+        final String urlPrefix =
+                options.getOrDefault("url-prefix", "https://cbomkit-load.invalid/");
+        final Duration timeout =
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout", "600")));
+
+        // generate repositories
+        final Path repositoryDir = workDir.resolve("repositories");
+        if (repositoryDir.toFile().exists()) {
+            FileUtils.delete(repositoryDir.toFile(), FileUtils.RECURSIVE);
+        }
+        final List<String> scanUrls = new ArrayList<>();
+        for (int i = 0; i < repositories; i++) {
+            SyntheticRepositories.generate(repositoryDir.resolve("repository-" + i), shape, i);
+            scanUrls.add(urlPrefix + "repository-" + i);
+        }
+        System.out.printf(
+                "Generated %d repositories (%s) in %s%n"
+                        + "The server needs CBOMKIT_CLONE_URL_REWRITES=%s=%s%n",
+                repositories, shape, repositoryDir, urlPrefix, repositoryDir.toUri());
+
+        // run scans
+        final HttpClient httpClient =
+                HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        final ScanClient scanClient =
+                new ScanClient(
+                        httpClient,
+                        server,
+                        timeout,
+                        Boolean.parseBoolean(options.getOrDefault("stream-detections", "true")));
+        final List<ScanOutcome> outcomes = new ArrayList<>();
+        final long peakRssKiloBytes;
+        final long start = System.nanoTime();
+        try (RssSampler rssSampler =
+                        options.containsKey("server-pid")
+                                ? new RssSampler(Long.parseLong(options.get("server-pid")))
+                                : null;
+                ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            final List<Future<ScanOutcome>> futures = new ArrayList<>();
+            for (int i = 0; i < scans; i++) {
+                final String scanUrl = scanUrls.get(i % scanUrls.size());
+                futures.add(executor.submit(() -> scanClient.scan(scanUrl)));
+            }
+            for (Future<ScanOutcome> future : futures) {
+                final ScanOutcome outcome = getOutcome(future);
+                if (!outcome.success()) {
+                    System.out.printf("Scan of %s failed: %s%n", outcome.scanUrl(), outcome.error());
+                }
+                outcomes.add(outcome);
+            }
+            peakRssKiloBytes = rssSampler == null ? -1 : rssSampler.peakKiloBytes();
+        }
+        final long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        printReport(outcomes, concurrency, durationMillis, peakRssKiloBytes);
+    }
+
+    @Nonnull
+    private static ScanOutcome getOutcome(@Nonnull Future<ScanOutcome> future)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return new ScanOutcome("?", e.getCause().toString(), 0, 0, Map.of());
+        }
+    }
+
+    private static void printReport(
+            @Nonnull List<ScanOutcome> outcomes,
+            int concurrency,
+            long durationMillis,
+            long peakRssKiloBytes) {
+        final List<ScanOutcome> succeeded =
+                outcomes.stream().filter(ScanOutcome::success).toList();
+        final Map<String, List<Long>> latencies = new TreeMap<>();
+        for (ScanOutcome outcome : succeeded) {
+            latencies.computeIfAbsent("end-to-end", k -> new ArrayList<>())
+                    .add(outcome.endToEndMillis());
+            latencies.computeIfAbsent("rest-timeline", k -> new ArrayList<>())
+                    .add(outcome.restMillis());
+            outcome.stageWallTimeMillis()
+                    .forEach(
+                            (stage, millis) ->
+                                    latencies
+                                            .computeIfAbsent(stage, k -> new ArrayList<>())
+                                            .add(millis));
+        }
+
+        System.out.printf(
+                Locale.ROOT,
+                "%nScans: %d succeeded, %d failed, concurrency %d, duration %.1f s%n",
+                succeeded.size(),
+                outcomes.size() - succeeded.size(),
+                concurrency,
+                durationMillis / 1000.0);
+        System.out.printf(
+                Locale.ROOT,
+                "Throughput: %.2f scans/min%n",
+                durationMillis == 0 ? 0.0 : succeeded.size() * 60_000.0 / durationMillis);
+        System.out.println(
+                peakRssKiloBytes < 0
+                        ? "Peak RSS: n/a (use --server-pid)"
+                        : "Peak RSS: " + peakRssKiloBytes / 1024 + " MiB");
+        System.out.printf(
+                Locale.ROOT, "%n%-16s %8s %8s %8s %8s%n", "latency (ms)", "p50", "p95", "p99", "n");
+        latencies.forEach(
+                (name, values) -> {
+                    final List<Long> sorted = values.stream().sorted().toList();
+                    System.out.printf(
+                            Locale.ROOT,
+                            "%-16s %8d %8d %8d %8d%n",
+                            name,
+                            percentile(sorted, 50),
+                            percentile(sorted, 95),
+                            percentile(sorted, 99),
+                            sorted.size());
+                });
+    }
+
+    /** Nearest-rank percentile of sorted values. */
+    private static long percentile(@Nonnull List<Long> sorted, double percentile) {
+        final int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    @Nonnull
+    private static Map<String, String> parseOptions(@Nonnull String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            final int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
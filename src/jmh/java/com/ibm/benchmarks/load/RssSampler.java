@@ -0,0 +1,70 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.benchmarks.load;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Samples the resident set size of the server process from {@code /proc/<pid>/status} and keeps
+ * the peak. The kernel's high-water mark ({@code VmHWM}) is used as well, so that short peaks
+ * between two samples are not missed.
+ */
+final class RssSampler implements AutoCloseable {
+    @Nonnull private final Path status;
+    @Nonnull private final AtomicLong peakKiloBytes = new AtomicLong(-1);
+    @Nonnull private final ScheduledExecutorService scheduler;
+
+    RssSampler(long pid) {
+        this.status = Path.of("/proc", Long.toString(pid), "status");
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.scheduler.scheduleAtFixedRate(this::sample, 0, 200, TimeUnit.MILLISECONDS);
+    }
+
+    /** Peak RSS in kilobytes, -1 if the process could not be read. */
+    long peakKiloBytes() {
+        sample();
+        return peakKiloBytes.get();
+    }
+
+    private void sample() {
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:") || line.startsWith("VmHWM:")) {
+                    final long kiloBytes = Long.parseLong(line.replaceAll("\\D", ""));
+                    peakKiloBytes.accumulateAndGet(kiloBytes, Math::max);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // process not readable (e.g. not on linux or already stopped), keep the last peak
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
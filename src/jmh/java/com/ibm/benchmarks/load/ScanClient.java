@@ -0,0 +1,220 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.benchmarks.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs one scan the way the frontend does: a scan request is sent over the {@code
+ * /v1/scan/{clientId}} WebSocket and the progress messages are read until the scan timeline
+ * arrives. The persisted timeline is then read from the REST API.
+ */
+final class ScanClient {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * @param endToEndMillis from opening the WebSocket until the scan timeline was received
+     * @param restMillis duration of the request for the persisted timeline
+     * @param stageWallTimeMillis wall time per scan stage, as reported by the server
+     */
+    record ScanOutcome(
+            @Nonnull String scanUrl,
+            @Nullable String error,
+            long endToEndMillis,
+            long restMillis,
+            @Nonnull Map<String, Long> stageWallTimeMillis) {
+
+        boolean success() {
+            return error == null;
+        }
+    }
+
+    @Nonnull private final HttpClient httpClient;
+    @Nonnull private final URI server;
+    @Nonnull private final Duration timeout;
+    private final boolean streamDetections;
+
+    ScanClient(
+            @Nonnull HttpClient httpClient,
+            @Nonnull URI server,
+            @Nonnull Duration timeout,
+            boolean streamDetections) {
+        this.httpClient = httpClient;
+        this.server = server;
+        this.timeout = timeout;
+        this.streamDetections = streamDetections;
+    }
+
+    @Nonnull
+    ScanOutcome scan(@Nonnull String scanUrl) {
+        final long start = System.nanoTime();
+        final ScanListener listener = new ScanListener();
+        final URI webSocketUri =
+                URI.create(
+                        server.toString().replaceFirst("^http", "ws")
+                                + "/v1/scan/"
+                                + UUID.randomUUID());
+        try {
+            final WebSocket webSocket =
+                    httpClient
+                            .newWebSocketBuilder()
+                            .connectTimeout(timeout)
+                            .buildAsync(webSocketUri, listener)
+                            .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            final JsonNode timeline;
+            try {
+                webSocket
+                        .sendText(
+                                OBJECT_MAPPER.writeValueAsString(
+                                        Map.of(
+                                                "scanUrl",
+                                                scanUrl,
+                                                "branch",
+                                                "main",
+                                                "streamDetections",
+                                                streamDetections)),
+                                true)
+                        .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                timeline = listener.timeline.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } finally {
+                webSocket.sendClose(WebSocket.NORMAL_CLOSURE, "");
+            }
+            final long endToEndMillis = elapsedMillis(start);
+
+            final long restStart = System.nanoTime();
+            final HttpResponse<String> response =
+                    httpClient.send(
+                            HttpRequest.newBuilder(
+                                            server.resolve(
+                                                    "/api/v1/scan/"
+                                                            + timeline.path("scanId").asText()
+                                                            + "/timeline"))
+                                    .timeout(timeout)
+                                    .GET()
+                                    .build(),
+                            HttpResponse.BodyHandlers.ofString());
+            final long restMillis = elapsedMillis(restStart);
+            if (response.statusCode() != 200) {
+                return failure(scanUrl, start, "timeline request: HTTP " + response.statusCode());
+            }
+            return new ScanOutcome(
+                    scanUrl,
+                    null,
+                    endToEndMillis,
+                    restMillis,
+                    stageWallTimeMillis(OBJECT_MAPPER.readTree(response.body())));
+        } catch (ExecutionException e) {
+            return failure(scanUrl, start, e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            return failure(scanUrl, start, "timed out after " + timeout);
+        } catch (IOException e) {
+            return failure(scanUrl, start, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failure(scanUrl, start, "interrupted");
+        }
+    }
+
+    @Nonnull
+    private static Map<String, Long> stageWallTimeMillis(@Nonnull JsonNode timeline) {
+        final Map<String, Long> stages = new LinkedHashMap<>();
+        for (JsonNode stage : timeline.path("stages")) {
+            stages.merge(
+                    stage.path("stage").asText(), stage.path("wallTimeMillis").asLong(), Long::sum);
+        }
+        return stages;
+    }
+
+    @Nonnull
+    private static ScanOutcome failure(
+            @Nonnull String scanUrl, long start, @Nullable String error) {
+        return new ScanOutcome(
+                scanUrl, error == null ? "unknown error" : error, elapsedMillis(start), 0, Map.of());
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /** Completes with the scan timeline, or exceptionally with the first error message. */
+    private static final class ScanListener implements WebSocket.Listener {
+        @Nonnull private final CompletableFuture<JsonNode> timeline = new CompletableFuture<>();
+        @Nonnull private final StringBuilder buffer = new StringBuilder();
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            buffer.append(data);
+            if (last) {
+                handle(buffer.toString());
+                buffer.setLength(0);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            timeline.completeExceptionally(
+                    new IllegalStateException("connection closed by server: " + reason));
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            timeline.completeExceptionally(error);
+        }
+
+        private void handle(@Nonnull String text) {
+            try {
+                final JsonNode progressMessage = OBJECT_MAPPER.readTree(text);
+                final String message = progressMessage.path("message").asText();
+                switch (progressMessage.path("type").asText()) {
+                    case "ERROR" ->
+                            timeline.completeExceptionally(new IllegalStateException(message));
+                    case "SCAN_TIMELINE" -> timeline.complete(OBJECT_MAPPER.readTree(message));
+                    default -> {
+                        // progress labels, detections and the CBOM are not needed
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                timeline.completeExceptionally(e);
+            }
+        }
+    }
+}
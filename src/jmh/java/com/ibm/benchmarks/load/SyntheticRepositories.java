@@ -0,0 +1,172 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.benchmarks.load;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.PersonIdent;
+
+/**
+ * Generates git repositories with Java (maven) and Python modules, in which a configurable share of
+ * the methods calls a cryptographic API that the scanner detects.
+ */
+final class SyntheticRepositories {
+
+    /**
+     * @param modules number of modules per repository
+     * @param filesPerModule number of source files per module
+     * @param methodsPerFile number of methods (functions) per source file
+     * @param cryptoDensity share of the methods calling a cryptographic API, between 0 and 1
+     * @param pythonShare share of the modules written in Python, between 0 and 1
+     */
+    record Shape(
+            int modules,
+            int filesPerModule,
+            int methodsPerFile,
+            double cryptoDensity,
+            double pythonShare) {}
+
+    private static final List<String> JAVA_CRYPTO_CALLS =
+            List.of(
+                    "return Cipher.getInstance(\"AES/GCM/NoPadding\");",
+                    "return MessageDigest.getInstance(\"SHA-256\");",
+                    "return Mac.getInstance(\"HmacSHA256\");",
+                    "return Signature.getInstance(\"SHA256withECDSA\");",
+                    "KeyPairGenerator generator = KeyPairGenerator.getInstance(\"RSA\");\n"
+                            + "        generator.initialize(2048);\n"
+                            + "        return generator.generateKeyPair();");
+
+    private static final List<String> PYTHON_CRYPTO_CALLS =
+            List.of(
+                    "return hashes.Hash(hashes.SHA256())",
+                    "return rsa.generate_private_key(public_exponent=65537, key_size=2048)",
+                    "return ec.generate_private_key(ec.SECP256R1())",
+                    "return Fernet.generate_key()");
+
+    private static final PersonIdent AUTHOR =
+            new PersonIdent("CBOMkit load test", "load-test@cbomkit.invalid");
+
+    private SyntheticRepositories() {}
+
+    /** Creates a repository with one commit on branch {@code main}. */
+    static void generate(@Nonnull Path directory, @Nonnull Shape shape, int seed)
+            throws IOException, GitAPIException {
+        Files.createDirectories(directory);
+        final int pythonModules = (int) Math.round(shape.modules() * shape.pythonShare());
+        for (int module = 0; module < shape.modules(); module++) {
+            final Path moduleDirectory = directory.resolve("module-" + module);
+            if (module < pythonModules) {
+                writePythonModule(moduleDirectory, module, shape, seed);
+            } else {
+                writeJavaModule(moduleDirectory, module, shape, seed);
+            }
+        }
+        try (Git git = Git.init().setDirectory(directory.toFile()).setInitialBranch("main").call()) {
+            git.add().addFilepattern(".").call();
+            git.commit()
+                    .setMessage("Synthetic repository")
+                    .setAuthor(AUTHOR)
+                    .setCommitter(AUTHOR)
+                    .setSign(false)
+                    .call();
+        }
+    }
+
+    private static void writeJavaModule(
+            @Nonnull Path moduleDirectory, int module, @Nonnull Shape shape, int seed)
+            throws IOException {
+        final String packageName = "com.example.module" + module;
+        Files.createDirectories(moduleDirectory);
+        Files.writeString(
+                moduleDirectory.resolve("pom.xml"),
+                "<project><modelVersion>4.0.0</modelVersion><groupId>com.example</groupId>"
+                        + "<artifactId>module-"
+                        + module
+                        + "</artifactId><version>1.0.0</version></project>\n");
+        final Path sourceDirectory =
+                moduleDirectory.resolve(
+                        Path.of("src", "main", "java", "com", "example", "module" + module));
+        Files.createDirectories(sourceDirectory);
+        for (int file = 0; file < shape.filesPerModule(); file++) {
+            final String className = "Service" + file;
+            final StringBuilder source = new StringBuilder();
+            source.append("package ").append(packageName).append(";\n\n");
+            source.append("import java.security.KeyPairGenerator;\n");
+            source.append("import java.security.MessageDigest;\n");
+            source.append("import java.security.Signature;\n");
+            source.append("import javax.crypto.Cipher;\n");
+            source.append("import javax.crypto.Mac;\n\n");
+            source.append("public class ").append(className).append(" {\n");
+            for (int method = 0; method < shape.methodsPerFile(); method++) {
+                final int index = seed + module + file + method;
+                source.append("\n    public Object method").append(method);
+                source.append("(int value) throws Exception {\n        ");
+                if (isCryptoCall(index, shape.cryptoDensity())) {
+                    source.append(JAVA_CRYPTO_CALLS.get(index % JAVA_CRYPTO_CALLS.size()));
+                } else {
+                    source.append("return Integer.toHexString(value * 31 + ")
+                            .append(index)
+                            .append(");");
+                }
+                source.append("\n    }\n");
+            }
+            source.append("}\n");
+            Files.writeString(sourceDirectory.resolve(className + ".java"), source);
+        }
+    }
+
+    private static void writePythonModule(
+            @Nonnull Path moduleDirectory, int module, @Nonnull Shape shape, int seed)
+            throws IOException {
+        final Path packageDirectory = moduleDirectory.resolve("module" + module);
+        Files.createDirectories(packageDirectory);
+        Files.writeString(
+                moduleDirectory.resolve("pyproject.toml"),
+                "[project]\nname = \"module-" + module + "\"\nversion = \"1.0.0\"\n");
+        Files.writeString(packageDirectory.resolve("__init__.py"), "");
+        for (int file = 0; file < shape.filesPerModule(); file++) {
+            final StringBuilder source = new StringBuilder();
+            source.append("from cryptography.fernet import Fernet\n");
+            source.append("from cryptography.hazmat.primitives import hashes\n");
+            source.append("from cryptography.hazmat.primitives.asymmetric import ec, rsa\n");
+            for (int method = 0; method < shape.methodsPerFile(); method++) {
+                final int index = seed + module + file + method;
+                source.append("\n\ndef function").append(method).append("(value):\n    ");
+                if (isCryptoCall(index, shape.cryptoDensity())) {
+                    source.append(PYTHON_CRYPTO_CALLS.get(index % PYTHON_CRYPTO_CALLS.size()));
+                } else {
+                    source.append("return hex(value * 31 + ").append(index).append(")");
+                }
+                source.append("\n");
+            }
+            Files.writeString(packageDirectory.resolve("service" + file + ".py"), source);
+        }
+    }
+
+    /** Spreads the crypto calls evenly: index i calls crypto if floor(i*d) != floor((i-1)*d). */
+    private static boolean isCryptoCall(int index, double cryptoDensity) {
+        return Math.floor(index * cryptoDensity) != Math.floor((index - 1) * cryptoDensity);
+    }
+}
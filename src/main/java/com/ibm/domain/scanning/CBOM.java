@@ -22,34 +22,303 @@ package com.ibm.domain.scanning;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
 import jakarta.annotation.Nonnull;
-import java.util.Optional;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.cyclonedx.Version;
 import org.cyclonedx.exception.GeneratorException;
 import org.cyclonedx.generators.BomGeneratorFactory;
 import org.cyclonedx.generators.json.BomJsonGenerator;
 import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.Evidence;
+import org.cyclonedx.model.component.crypto.CryptoProperties;
+import org.cyclonedx.model.component.evidence.Occurrence;
 
 public record CBOM(@Nonnull Bom cycloneDXbom) {
+    private static final ObjectMapper IDENTITY_MAPPER = new ObjectMapper();
 
-    public void merge(@Nonnull CBOM cbom) {
-        // components
-        Optional.ofNullable(this.cycloneDXbom.getComponents())
-                .ifPresent(
-                        components -> {
-                            if (cbom.cycloneDXbom().getComponents() != null) {
-                                components.addAll(cbom.cycloneDXbom.getComponents());
-                            }
-                        });
-        // dependencies
-        Optional.ofNullable(this.cycloneDXbom.getDependencies())
-                .ifPresent(
-                        dependencies -> {
-                            if (cbom.cycloneDXbom().getDependencies() != null) {
-                                dependencies.addAll(cbom.cycloneDXbom.getDependencies());
-                            }
+    /**
+     * Merges the components and dependencies of the given CBOM into this one, in linear time per
+     * level of references between crypto assets. Components with the same bom-ref, or with the
+     * same type, name and crypto properties, are merged into the component already present: their
+     * occurrences are united, and dependencies and crypto properties referring to the merged
+     * component are rewritten to its bom-ref. Dependencies with the same ref are merged into one
+     * with the union of their children. The given CBOM is left unchanged, its components are
+     * copied.
+     *
+     * @throws CBOMSerializationFailed if the given CBOM could not be copied
+     */
+    public void merge(@Nonnull CBOM cbom) throws CBOMSerializationFailed {
+        final Bom other = formJSON(cbom.toJSON()).cycloneDXbom();
+        final Map<String, String> mergedRefs = mergeComponents(other.getComponents());
+        mergeDependencies(other.getDependencies(), mergedRefs);
+    }
+
+    /** Returns the bom-refs of merged components, mapped to the bom-ref they were merged into. */
+    @Nonnull
+    private Map<String, String> mergeComponents(@Nullable List<Component> otherComponents)
+            throws CBOMSerializationFailed {
+        if (otherComponents == null || otherComponents.isEmpty()) {
+            return Map.of();
+        }
+        List<Component> components = this.cycloneDXbom.getComponents();
+        if (components == null) {
+            components = new ArrayList<>();
+            this.cycloneDXbom.setComponents(components);
+        }
+        final Map<String, Component> componentsByRef = new HashMap<>();
+        final Map<String, Component> componentsByIdentity = new HashMap<>();
+        for (Component component : components) {
+            index(component, identity(component), componentsByRef, componentsByIdentity);
+        }
+        final Map<Component, Set<String>> occurrenceKeys = new IdentityHashMap<>();
+        final Map<String, String> mergedRefs = new HashMap<>();
+        final Map<Component, JsonNode> cryptoProperties = new IdentityHashMap<>();
+        // crypto properties refer to other components by bom-ref, e.g. a key to its algorithm, so a
+        // component only matches once the components it refers to are merged: matching repeats
+        // until no more bom-refs are merged, once per level of such references
+        final Map<Component, Component> matches = new IdentityHashMap<>();
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            for (Component component : otherComponents) {
+                if (matches.containsKey(component)) {
+                    continue;
+                }
+                rewriteRefs(component, mergedRefs, cryptoProperties);
+                final Component existing = find(component, componentsByRef, componentsByIdentity);
+                if (existing != null) {
+                    matches.put(component, existing);
+                    merged |= addMergedRef(component, existing, mergedRefs);
+                }
+            }
+        }
+        for (Component component : otherComponents) {
+            Component existing = matches.get(component);
+            if (existing == null) {
+                // duplicates within the other CBOM
+                rewriteRefs(component, mergedRefs, cryptoProperties);
+                existing = find(component, componentsByRef, componentsByIdentity);
+            }
+            if (existing == null) {
+                components.add(component);
+                index(component, identity(component), componentsByRef, componentsByIdentity);
+                continue;
+            }
+            mergeOccurrences(existing, component, occurrenceKeys);
+            addMergedRef(component, existing, mergedRefs);
+        }
+        return mergedRefs;
+    }
+
+    @Nullable private static Component find(
+            @Nonnull Component component,
+            @Nonnull Map<String, Component> componentsByRef,
+            @Nonnull Map<String, Component> componentsByIdentity) {
+        final Component existing =
+                component.getBomRef() == null ? null : componentsByRef.get(component.getBomRef());
+        if (existing != null) {
+            return existing;
+        }
+        final String identity = identity(component);
+        return identity == null ? null : componentsByIdentity.get(identity);
+    }
+
+    private static boolean addMergedRef(
+            @Nonnull Component component,
+            @Nonnull Component existing,
+            @Nonnull Map<String, String> mergedRefs) {
+        if (component.getBomRef() == null
+                || existing.getBomRef() == null
+                || component.getBomRef().equals(existing.getBomRef())) {
+            return false;
+        }
+        return mergedRefs.put(component.getBomRef(), existing.getBomRef()) == null;
+    }
+
+    /**
+     * Points the references in the crypto properties of the component (algorithmRef,
+     * signatureAlgorithmRef, the algorithms of cipher suites, ...) to the components the referenced
+     * ones were merged into. The properties are converted to a tree once per component and only
+     * converted back if one of their references was rewritten.
+     */
+    private static void rewriteRefs(
+            @Nonnull Component component,
+            @Nonnull Map<String, String> mergedRefs,
+            @Nonnull Map<Component, JsonNode> cryptoProperties)
+            throws CBOMSerializationFailed {
+        if (mergedRefs.isEmpty() || component.getCryptoProperties() == null) {
+            return;
+        }
+        final JsonNode properties =
+                cryptoProperties.computeIfAbsent(
+                        component, c -> IDENTITY_MAPPER.valueToTree(c.getCryptoProperties()));
+        if (!rewriteRefs(properties, mergedRefs)) {
+            return;
+        }
+        try {
+            component.setCryptoProperties(
+                    IDENTITY_MAPPER.treeToValue(properties, CryptoProperties.class));
+        } catch (JsonProcessingException e) {
+            throw new CBOMSerializationFailed();
+        }
+    }
+
+    private static boolean rewriteRefs(
+            @Nonnull JsonNode node, @Nonnull Map<String, String> mergedRefs) {
+        boolean rewritten = false;
+        if (node instanceof ObjectNode object) {
+            final Map<String, String> refs = new HashMap<>();
+            for (Map.Entry<String, JsonNode> field : object.properties()) {
+                final JsonNode value = field.getValue();
+                if (value.isTextual() && mergedRefs.containsKey(value.asText())) {
+                    refs.put(field.getKey(), mergedRefs.get(value.asText()));
+                } else {
+                    rewritten |= rewriteRefs(value, mergedRefs);
+                }
+            }
+            refs.forEach(object::put);
+            rewritten |= !refs.isEmpty();
+        } else if (node instanceof ArrayNode array) {
+            for (int i = 0; i < array.size(); i++) {
+                final JsonNode value = array.get(i);
+                if (value.isTextual() && mergedRefs.containsKey(value.asText())) {
+                    array.set(i, TextNode.valueOf(mergedRefs.get(value.asText())));
+                    rewritten = true;
+                } else {
+                    rewritten |= rewriteRefs(value, mergedRefs);
+                }
+            }
+        }
+        return rewritten;
+    }
+
+    private void mergeDependencies(
+            @Nullable List<Dependency> otherDependencies, @Nonnull Map<String, String> mergedRefs) {
+        if (otherDependencies == null || otherDependencies.isEmpty()) {
+            return;
+        }
+        List<Dependency> dependencies = this.cycloneDXbom.getDependencies();
+        if (dependencies == null) {
+            dependencies = new ArrayList<>();
+            this.cycloneDXbom.setDependencies(dependencies);
+        }
+        final Map<String, Dependency> dependenciesByRef = new HashMap<>();
+        for (Dependency dependency : dependencies) {
+            dependenciesByRef.putIfAbsent(dependency.getRef(), dependency);
+        }
+        final Map<Dependency, Set<String>> childRefs = new IdentityHashMap<>();
+        for (Dependency dependency : otherDependencies) {
+            final String ref = mergedRefs.getOrDefault(dependency.getRef(), dependency.getRef());
+            Dependency target = dependenciesByRef.get(ref);
+            if (target == null) {
+                target = new Dependency(ref);
+                dependencies.add(target);
+                dependenciesByRef.put(ref, target);
+            }
+            if (dependency.getDependencies() == null) {
+                continue;
+            }
+            final Set<String> knownChildRefs = childRefs.computeIfAbsent(target, CBOM::childRefsOf);
+            for (Dependency child : dependency.getDependencies()) {
+                final String childRef = mergedRefs.getOrDefault(child.getRef(), child.getRef());
+                if (!childRef.equals(ref) && knownChildRefs.add(childRef)) {
+                    target.addDependency(new Dependency(childRef));
+                }
+            }
+        }
+    }
+
+    private static void index(
+            @Nonnull Component component,
+            @Nullable String identity,
+            @Nonnull Map<String, Component> componentsByRef,
+            @Nonnull Map<String, Component> componentsByIdentity) {
+        if (component.getBomRef() != null) {
+            componentsByRef.putIfAbsent(component.getBomRef(), component);
+        }
+        if (identity != null) {
+            componentsByIdentity.putIfAbsent(identity, component);
+        }
+    }
+
+    /** Type, name and crypto properties of a crypto asset, null for other components. */
+    @Nullable private static String identity(@Nonnull Component component) {
+        if (component.getCryptoProperties() == null) {
+            return null;
+        }
+        try {
+            return component.getType()
+                    + "|"
+                    + component.getName()
+                    + "|"
+                    + IDENTITY_MAPPER.writeValueAsString(component.getCryptoProperties());
+        } catch (JsonProcessingException e) {
+            return null; // only merged by bom-ref
+        }
+    }
+
+    private static void mergeOccurrences(
+            @Nonnull Component target,
+            @Nonnull Component source,
+            @Nonnull Map<Component, Set<String>> occurrenceKeys) {
+        if (source.getEvidence() == null || source.getEvidence().getOccurrences() == null) {
+            return;
+        }
+        final Set<String> knownKeys =
+                occurrenceKeys.computeIfAbsent(
+                        target,
+                        t -> {
+                            // copy, the list of the target might be immutable
+                            final Evidence evidence =
+                                    t.getEvidence() == null ? new Evidence() : t.getEvidence();
+                            final List<Occurrence> occurrences =
+                                    evidence.getOccurrences() == null
+                                            ? new ArrayList<>()
+                                            : new ArrayList<>(evidence.getOccurrences());
+                            evidence.setOccurrences(occurrences);
+                            t.setEvidence(evidence);
+                            final Set<String> keys = new HashSet<>();
+                            occurrences.forEach(occurrence -> keys.add(occurrenceKey(occurrence)));
+                            return keys;
                         });
+        for (Occurrence occurrence : source.getEvidence().getOccurrences()) {
+            if (knownKeys.add(occurrenceKey(occurrence))) {
+                target.getEvidence().getOccurrences().add(occurrence);
+            }
+        }
+    }
+
+    @Nonnull
+    private static String occurrenceKey(@Nonnull Occurrence occurrence) {
+        return occurrence.getLocation()
+                + "|"
+                + occurrence.getLine()
+                + "|"
+                + occurrence.getOffset()
+                + "|"
+                + occurrence.getAdditionalContext();
+    }
+
+    @Nonnull
+    private static Set<String> childRefsOf(@Nonnull Dependency dependency) {
+        final Set<String> refs = new HashSet<>();
+        if (dependency.getDependencies() != null) {
+            dependency.getDependencies().forEach(child -> refs.add(child.getRef()));
+        }
+        return refs;
     }
 
     public static @Nonnull CBOM formJSON(@Nonnull JsonNode jsonNode)
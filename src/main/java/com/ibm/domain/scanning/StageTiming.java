@@ -0,0 +1,47 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.domain.scanning;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+/**
+ * Resources spent on one stage of a scan. CPU time and allocated bytes are measured for the
+ * thread executing the stage, and are -1 if the JVM does not support measuring them. The counters
+ * are only set for the stages they apply to.
+ *
+ * @param bytesCloned size of the cloned repository on disk ({@link ScanStage#CLONE})
+ * @param filesIndexed number of source files found ({@link ScanStage#INDEXING}, {@link
+ *     ScanStage#PREFILTER})
+ * @param filesParsed number of source files scanned ({@link ScanStage#JAVA_SCAN}, {@link
+ *     ScanStage#PYTHON_SCAN}), or left to scan ({@link ScanStage#PREFILTER})
+ * @param detections number of cryptographic assets found ({@link ScanStage#JAVA_SCAN}, {@link
+ *     ScanStage#PYTHON_SCAN})
+ */
+public record StageTiming(
+        @Nonnull ScanStage stage,
+        long startTime,
+        long wallTimeMillis,
+        long cpuTimeMillis,
+        long allocatedBytes,
+        @Nullable Long bytesCloned,
+        @Nullable Integer filesIndexed,
+        @Nullable Integer filesParsed,
+        @Nullable Integer detections) {}
@@ -22,10 +22,13 @@ package com.ibm.infrastructure;
 import app.bootstrap.core.cqrs.ICommand;
 import app.bootstrap.core.cqrs.ICommandBus;
 import app.bootstrap.core.cqrs.ICommandHandler;
+import app.bootstrap.core.cqrs.ProcessManager;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Singleton;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import org.slf4j.Logger;
@@ -37,8 +40,16 @@ public final class CommandBus implements ICommandBus {
 
     private final List<ICommandHandler> commandHandlers;
 
-    public CommandBus() {
-        this.commandHandlers = new ArrayList<>();
+    public CommandBus(@Nonnull MeterRegistry meterRegistry) {
+        // process managers register and remove themselves from the threads running their scans
+        this.commandHandlers = new CopyOnWriteArrayList<>();
+        Gauge.builder(
+                        "cbomkit.process.managers.active",
+                        this.commandHandlers,
+                        handlers ->
+                                handlers.stream().filter(ProcessManager.class::isInstance).count())
+                .description("Process managers registered on the command bus, one per running scan")
+                .register(meterRegistry);
     }
 
     @Override
@@ -55,8 +66,7 @@ public final class CommandBus implements ICommandBus {
     public void send(@Nonnull ICommand command) {
         try (final ExecutorService executors = Executors.newCachedThreadPool()) {
             LOGGER.info("sending command {}", command);
-            final List<ICommandHandler> copy = new ArrayList<>(commandHandlers);
-            for (final ICommandHandler iCommandHandler : copy) {
+            for (final ICommandHandler iCommandHandler : commandHandlers) {
                 executors.submit(
                         () -> {
                             try {
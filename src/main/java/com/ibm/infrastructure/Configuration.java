@@ -19,23 +19,24 @@
  */
 package com.ibm.infrastructure;
 
-import com.ibm.infrastructure.compliance.IComplianceConfiguration;
-import com.ibm.infrastructure.compliance.service.BasicQuantumSafeComplianceService;
-import com.ibm.infrastructure.compliance.service.IComplianceService;
+import com.ibm.infrastructure.database.readmodels.IReadModelCacheConfiguration;
+import com.ibm.infrastructure.scanning.GitBackendMode;
 import com.ibm.infrastructure.scanning.IScanConfiguration;
+import com.ibm.infrastructure.scanning.PrefilterMode;
+import io.quarkus.runtime.configuration.MemorySize;
 import jakarta.annotation.Nonnull;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.io.File;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import org.eclipse.microprofile.config.ConfigProvider;
 
 @ApplicationScoped
-public final class Configuration implements IScanConfiguration, IComplianceConfiguration {
-
-    @Nonnull
-    @Override
-    public IComplianceService getComplianceService() {
-        return new BasicQuantumSafeComplianceService();
-    }
+public final class Configuration implements IScanConfiguration, IReadModelCacheConfiguration {
 
     @Nonnull
     @Override
@@ -56,4 +57,129 @@ public final class Configuration implements IScanConfiguration, IComplianceConfi
                                 new IllegalStateException(
                                         "Could not load jar dependencies for java scanning")); // Error
     }
+
+    @Nonnull
+    @Override
+    public String getDepsDevEndpoint() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.scanning.deps-dev.endpoint", String.class)
+                .orElse("https://api.deps.dev/v3alpha/purl/");
+    }
+
+    @Nonnull
+    @Override
+    public Duration getPurlResolutionTimeout() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.scanning.deps-dev.timeout", Duration.class)
+                .orElse(Duration.ofSeconds(10));
+    }
+
+    @Nonnull
+    @Override
+    public Duration getPurlResolutionCacheTtl() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.scanning.deps-dev.cache-ttl", Duration.class)
+                .orElse(Duration.ofDays(7));
+    }
+
+    @Nonnull
+    @Override
+    public Duration getPurlResolutionNegativeCacheTtl() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.scanning.deps-dev.negative-cache-ttl", Duration.class)
+                .orElse(Duration.ofHours(1));
+    }
+
+    @Override
+    public boolean isDetectionStreamingEnabled() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.scanning.stream-detections", Boolean.class)
+                .orElse(true);
+    }
+
+    @Nonnull
+    @Override
+    public PrefilterMode getPrefilterMode() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.scanning.prefilter", String.class)
+                .map(mode -> PrefilterMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)))
+                .orElse(PrefilterMode.DISABLED);
+    }
+
+    @Nonnull
+    @Override
+    public GitBackendMode getGitBackend() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.scanning.git-backend", String.class)
+                .map(mode -> GitBackendMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)))
+                .orElse(GitBackendMode.AUTO);
+    }
+
+    @Override
+    public int getScanWorkers() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.scanning.workers", Integer.class)
+                .orElse(0);
+    }
+
+    @Nonnull
+    @Override
+    public String getScanWorkerMaxHeap() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.scanning.worker-max-heap", String.class)
+                .orElse("2g");
+    }
+
+    @Nonnull
+    @Override
+    public Optional<String> getScanWorkerClasspath() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.scanning.worker-classpath", String.class);
+    }
+
+    /** Entries of the form {@code <prefix>=<replacement>}. */
+    @Nonnull
+    @Override
+    public Map<String, String> getCloneUrlRewrites() {
+        final List<String> entries =
+                ConfigProvider.getConfig()
+                        .getOptionalValues("cbomkit.scanning.clone-url-rewrites", String.class)
+                        .orElse(List.of());
+        final Map<String, String> rewrites = new LinkedHashMap<>();
+        for (String entry : entries) {
+            final int separator = entry.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("Invalid clone url rewrite: " + entry);
+            }
+            rewrites.put(entry.substring(0, separator), entry.substring(separator + 1));
+        }
+        return rewrites;
+    }
+
+    /**
+     * Limit for request bodies that are buffered in memory, the service wide limit only bounds the
+     * streaming endpoints.
+     */
+    public long getMaxInlineBodySize() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.compliance.max-inline-body-size", MemorySize.class)
+                .map(MemorySize::asLongValue)
+                .orElse(10L * 1024 * 1024);
+    }
+
+    @Override
+    public long getReadModelCacheMaxBytes() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.read-model-cache.max-size", MemorySize.class)
+                .map(MemorySize::asLongValue)
+                .orElse(64L * 1024 * 1024);
+    }
+
+    @Nonnull
+    @Override
+    public Duration getReadModelCacheTtl() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.read-model-cache.ttl", Duration.class)
+                .orElse(Duration.ofHours(1));
+    }
 }
@@ -22,10 +22,13 @@ package com.ibm.infrastructure;
 import app.bootstrap.core.cqrs.IQuery;
 import app.bootstrap.core.cqrs.IQueryBus;
 import app.bootstrap.core.cqrs.IQueryHandler;
+import io.quarkus.runtime.ShutdownEvent;
 import jakarta.annotation.Nonnull;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -40,6 +43,13 @@ public final class QueryBus implements IQueryBus {
     @Nonnull
     private final Map<Class<? extends IQuery>, IQueryHandler> handlers = new ConcurrentHashMap<>();
 
+    /**
+     * Handlers mostly wait on the database, so every query runs on its own virtual thread instead
+     * of occupying a request thread while it blocks.
+     */
+    @Nonnull
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
     @Override
     public <Q extends IQuery<R>, R> void register(
             @Nonnull IQueryHandler<Q, R> queryHandler,
@@ -56,18 +66,24 @@ public final class QueryBus implements IQueryBus {
     @Override
     @SuppressWarnings("unchecked")
     public <R> CompletableFuture<R> send(@Nonnull IQuery<R> query) {
-        try (final ExecutorService executors = Executors.newCachedThreadPool()) {
-            final IQueryHandler<IQuery<R>, R> handler = handlers.get(query.getClass());
-            if (handler == null) {
-                throw new IllegalArgumentException(
-                        "No handler registered for " + query.getClass().getName());
-            }
-            final CompletableFuture<R> completableFuture = new CompletableFuture<>();
-            executors.submit(() -> completableFuture.complete(handler.handle(query)));
-            return completableFuture;
-        } catch (Exception e) {
-            LOGGER.error(e.getMessage());
-            return CompletableFuture.supplyAsync(() -> null);
+        final IQueryHandler<IQuery<R>, R> handler = handlers.get(query.getClass());
+        if (handler == null) {
+            final String message = "No handler registered for " + query.getClass().getName();
+            LOGGER.error(message);
+            return CompletableFuture.failedFuture(new IllegalArgumentException(message));
         }
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        return handler.handle(query);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                },
+                executor);
+    }
+
+    void onStop(@Observes ShutdownEvent event) {
+        executor.shutdown();
     }
 }
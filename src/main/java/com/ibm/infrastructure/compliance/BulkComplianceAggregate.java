@@ -0,0 +1,41 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Portfolio-level totals of a bulk compliance check over many stored CBOMs. A project can have
+ * several stored CBOMs (e.g. one per package folder), so the totals count CBOMs.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkComplianceAggregate(
+        @Nonnull String complianceServiceName,
+        @Nullable String policyName,
+        int numberOfCBOMs,
+        int numberOfErrors,
+        long numberOfAssets,
+        @Nonnull Map<Integer, Long> cbomsPerAssessmentLevel,
+        @Nonnull Map<Integer, Long> findingsPerComplianceLevel,
+        @Nonnull List<ComplianceLevel> complianceLevels) {}
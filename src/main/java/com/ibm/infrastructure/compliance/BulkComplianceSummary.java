@@ -0,0 +1,44 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Map;
+
+/** Compliance outcome of a single stored CBOM, as reported by the bulk compliance check. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkComplianceSummary(
+        @Nonnull String projectIdentifier,
+        @Nullable String gitUrl,
+        @Nullable String commit,
+        int numberOfAssets,
+        @Nonnull Map<Integer, Long> findingsPerComplianceLevel,
+        @Nullable AssessmentLevel assessmentLevel,
+        boolean error) {
+
+    @Nonnull
+    public static BulkComplianceSummary error(
+            @Nonnull String projectIdentifier, @Nullable String gitUrl, @Nullable String commit) {
+        return new BulkComplianceSummary(
+                projectIdentifier, gitUrl, commit, 0, Map.of(), AssessmentLevel.UNKNOWN, true);
+    }
+}
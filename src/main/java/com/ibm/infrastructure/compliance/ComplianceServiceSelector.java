@@ -19,62 +19,149 @@
  */
 package com.ibm.infrastructure.compliance;
 
+import com.ibm.infrastructure.compliance.repositories.IPolicyRepository;
 import com.ibm.infrastructure.compliance.service.BasicQuantumSafeComplianceService;
+import com.ibm.infrastructure.compliance.service.CustomComplianceService;
 import com.ibm.infrastructure.compliance.service.IComplianceService;
-import jakarta.annotation.PostConstruct;
+import com.ibm.infrastructure.compliance.service.custom.CustomCompliancePolicy;
+import com.ibm.infrastructure.compliance.service.custom.CustomPolicyParser;
+import com.ibm.infrastructure.errors.PolicyNotStored;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Nonnull;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Registry of all compliance policies known to the service. Policies are parsed once and shared
+ * between all query handlers. Lookups read an immutable snapshot without locking; every change
+ * swaps the snapshot atomically. Custom policies are persisted as TOML and restored on startup.
+ */
 @ApplicationScoped
 public class ComplianceServiceSelector {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ComplianceServiceSelector.class);
+
+    public static final String QUANTUM_SAFE = "quantum_safe";
 
-    private final Map<String, IComplianceService> services = new HashMap<>();
-    private IComplianceService defaultService;
+    @Nonnull private final IPolicyRepository policyRepository;
+    @Nonnull private final IComplianceService defaultService;
 
-    @PostConstruct
-    public void init() {
-        // Instantiate available compliance services
-        IComplianceService quantumSafeService = new BasicQuantumSafeComplianceService();
+    @Nonnull
+    private final AtomicReference<Map<String, IComplianceService>> services =
+            new AtomicReference<>(Map.of());
 
-        // Register them with identifiers
-        services.put("quantum_safe", quantumSafeService);
+    public ComplianceServiceSelector(@Nonnull IPolicyRepository policyRepository) {
+        this.policyRepository = policyRepository;
+        this.defaultService = new BasicQuantumSafeComplianceService();
+        this.services.set(builtInServices());
+    }
 
-        // Define the default service
-        this.defaultService = quantumSafeService;
+    void onStart(@Observes StartupEvent event) {
+        this.reload();
     }
 
-    public IComplianceService getService(String policyIdentifier) {
-        IComplianceService service = services.get(policyIdentifier);
+    @Nonnull
+    public IComplianceService getService(@Nonnull String policyIdentifier) {
+        final IComplianceService service = services.get().get(policyIdentifier);
         if (service == null) {
-            service = defaultService;
+            return defaultService;
         }
         return service;
     }
 
-    public void register(String policyIdentifier, IComplianceService service) {
-        services.put(policyIdentifier, service);
+    /**
+     * Parses, stores and registers a custom policy given as TOML.
+     *
+     * @param toml the policy definition
+     * @return the identifier of the registered policy
+     * @throws IllegalArgumentException if the TOML does not describe a valid policy
+     * @throws PolicyNotStored if the policy could not be persisted, it is not registered then
+     */
+    @Nonnull
+    public String registerCustomPolicy(@Nonnull String toml) throws PolicyNotStored {
+        final CustomCompliancePolicy policy = CustomPolicyParser.parse(toml);
+        if (QUANTUM_SAFE.equals(policy.getId())) {
+            throw new IllegalArgumentException("Policy id '" + QUANTUM_SAFE + "' is reserved");
+        }
+        final IComplianceService service = new CustomComplianceService(policy);
+        this.policyRepository.save(policy.getId(), policy.getName(), toml);
+        this.register(policy.getId(), service);
+        return policy.getId();
+    }
+
+    public void register(@Nonnull String policyIdentifier, @Nonnull IComplianceService service) {
+        services.updateAndGet(
+                current -> {
+                    final Map<String, IComplianceService> next = new LinkedHashMap<>(current);
+                    next.put(policyIdentifier, service);
+                    return Map.copyOf(next);
+                });
     }
 
-    public boolean remove(String policyIdentifier) {
+    public boolean remove(@Nonnull String policyIdentifier) {
         // Prevent deleting built-in policies
-        if (policyIdentifier.equals("quantum_safe")) {
+        if (policyIdentifier.equals(QUANTUM_SAFE)) {
             return false;
         }
+        final Map<String, IComplianceService> previous =
+                services.getAndUpdate(
+                        current -> {
+                            if (!current.containsKey(policyIdentifier)) {
+                                return current;
+                            }
+                            final Map<String, IComplianceService> next =
+                                    new LinkedHashMap<>(current);
+                            next.remove(policyIdentifier);
+                            return Map.copyOf(next);
+                        });
+        if (!previous.containsKey(policyIdentifier)) {
+            return false;
+        }
+        this.policyRepository.delete(policyIdentifier);
+        return true;
+    }
 
-        return services.remove(policyIdentifier) != null;
+    /**
+     * Rebuilds the registry from the built-in policies and all stored custom policies. The new
+     * set of policies becomes visible in one step.
+     */
+    public void reload() {
+        final Map<String, IComplianceService> next = new LinkedHashMap<>(builtInServices());
+        for (IPolicyRepository.PolicySource source : this.policyRepository.findAll()) {
+            try {
+                next.put(
+                        source.id(),
+                        new CustomComplianceService(CustomPolicyParser.parse(source.toml())));
+            } catch (Exception e) {
+                LOGGER.error(
+                        "Could not restore stored policy '{}': {}", source.id(), e.getMessage());
+            }
+        }
+        services.set(Map.copyOf(next));
+        LOGGER.info("Loaded {} compliance policies", next.size());
     }
 
+    @Nonnull
     public List<Map<String, String>> listPolicies() {
-        List<Map<String, String>> policyList = new ArrayList<>();
-        for (Map.Entry<String, IComplianceService> entry : services.entrySet()) {
-            Map<String, String> map = new HashMap<>();
+        final List<Map<String, String>> policyList = new ArrayList<>();
+        for (Map.Entry<String, IComplianceService> entry : services.get().entrySet()) {
+            final Map<String, String> map = new HashMap<>();
             map.put("id", entry.getKey());
             map.put("label", entry.getValue().getName());
             policyList.add(map);
         }
         return policyList;
     }
+
+    @Nonnull
+    private Map<String, IComplianceService> builtInServices() {
+        return Map.of(QUANTUM_SAFE, this.defaultService);
+    }
 }
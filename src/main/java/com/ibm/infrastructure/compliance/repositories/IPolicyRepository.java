@@ -0,0 +1,37 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.repositories;
+
+import com.ibm.infrastructure.errors.PolicyNotStored;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+
+public interface IPolicyRepository {
+
+    record PolicySource(@Nonnull String id, @Nonnull String toml) {}
+
+    @Nonnull
+    List<PolicySource> findAll();
+
+    void save(@Nonnull String id, @Nonnull String name, @Nonnull String toml)
+            throws PolicyNotStored;
+
+    void delete(@Nonnull String id);
+}
@@ -0,0 +1,117 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.repositories;
+
+import com.ibm.infrastructure.errors.PolicyNotStored;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the raw TOML source of uploaded custom policies, so that they can be restored after a
+ * restart. Parsing is left to the policy registry, which does it once per policy.
+ */
+@Singleton
+public final class PolicyRepository implements IPolicyRepository {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PolicyRepository.class);
+
+    @Nonnull
+    @Override
+    public List<PolicySource> findAll() {
+        final EntityManager entityManager = StoredPolicy.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            QuarkusTransaction.begin();
+            final List<PolicySource> policies =
+                    entityManager
+                            .createQuery(
+                                    "SELECT p FROM StoredPolicy p ORDER BY p.createdAt",
+                                    StoredPolicy.class)
+                            .getResultStream()
+                            .map(p -> new PolicySource(p.id, p.toml))
+                            .toList();
+            QuarkusTransaction.commit();
+            return policies;
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            if (QuarkusTransaction.isActive()) {
+                QuarkusTransaction.rollback();
+            }
+        } finally {
+            container.requestContext().terminate();
+        }
+        return List.of();
+    }
+
+    @Override
+    public void save(@Nonnull String id, @Nonnull String name, @Nonnull String toml)
+            throws PolicyNotStored {
+        final EntityManager entityManager = StoredPolicy.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            QuarkusTransaction.begin();
+            final StoredPolicy policy = new StoredPolicy(id, name, toml);
+            if (entityManager.find(StoredPolicy.class, id) == null) {
+                entityManager.persist(policy);
+            } else {
+                entityManager.merge(policy);
+            }
+            QuarkusTransaction.commit();
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            if (QuarkusTransaction.isActive()) {
+                QuarkusTransaction.rollback();
+            }
+            throw new PolicyNotStored(id, e);
+        } finally {
+            container.requestContext().terminate();
+        }
+    }
+
+    @Override
+    public void delete(@Nonnull String id) {
+        final EntityManager entityManager = StoredPolicy.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            QuarkusTransaction.begin();
+            final StoredPolicy policy = entityManager.find(StoredPolicy.class, id);
+            if (policy != null) {
+                entityManager.remove(policy);
+            }
+            QuarkusTransaction.commit();
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            if (QuarkusTransaction.isActive()) {
+                QuarkusTransaction.rollback();
+            }
+        } finally {
+            container.requestContext().terminate();
+        }
+    }
+}
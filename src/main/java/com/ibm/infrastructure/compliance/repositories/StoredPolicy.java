@@ -0,0 +1,48 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.repositories;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.sql.Timestamp;
+
+@Entity
+class StoredPolicy extends PanacheEntityBase {
+    @Id @Nonnull public String id;
+    @Nonnull public String name;
+
+    @Nonnull
+    @Column(columnDefinition = "text")
+    public String toml;
+
+    @Nonnull public Timestamp createdAt;
+
+    protected StoredPolicy() {}
+
+    StoredPolicy(@Nonnull String id, @Nonnull String name, @Nonnull String toml) {
+        this.id = id;
+        this.name = name;
+        this.toml = toml;
+        this.createdAt = new Timestamp(System.currentTimeMillis());
+    }
+}
@@ -25,22 +25,28 @@ import com.ibm.infrastructure.compliance.AssessmentLevel;
 import com.ibm.infrastructure.compliance.ComplianceLevel;
 import jakarta.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import org.cyclonedx.model.component.crypto.AlgorithmProperties;
 import org.cyclonedx.model.component.crypto.CryptoProperties;
 import org.cyclonedx.model.component.crypto.enums.Primitive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class BasicQuantumSafeComplianceService implements IComplianceService {
-    private static final List<Primitive> ASYMMETRIC_PRIMITIVES =
-            Arrays.asList(Primitive.SIGNATURE, Primitive.KEY_AGREE, Primitive.KEM, Primitive.PKE);
-    private static final List<Primitive> UNKNOWN_PRIMITIVES =
-            Arrays.asList(Primitive.UNKNOWN, Primitive.OTHER);
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(BasicQuantumSafeComplianceService.class);
+    private static final Set<Primitive> ASYMMETRIC_PRIMITIVES =
+            Set.of(Primitive.SIGNATURE, Primitive.KEY_AGREE, Primitive.KEM, Primitive.PKE);
+    private static final Set<Primitive> UNKNOWN_PRIMITIVES =
+            Set.of(Primitive.UNKNOWN, Primitive.OTHER);
     private static final List<String> WHITELIST_NAMES =
-            Arrays.asList(
+            List.of(
                     "ml-kem",
                     "ml-dsa",
                     "slh-dsa",
@@ -57,8 +63,8 @@ public class BasicQuantumSafeComplianceService implements IComplianceService {
                     "sphincs",
                     "xmss",
                     "lms");
-    private static final List<String> WHITELIST_OIDS =
-            Arrays.asList(
+    private static final Set<String> WHITELIST_OIDS =
+            Set.of(
                     "1.3.6.1.4.1.2.267.12.4.4",
                     "1.3.6.1.4.1.2.267.12.6.5",
                     "1.3.6.1.4.1.2.267.12.8.7",
@@ -82,11 +88,11 @@ public class BasicQuantumSafeComplianceService implements IComplianceService {
     @Nonnull private final Map<Integer, AssessmentLevel> assessmentLevels;
 
     public BasicQuantumSafeComplianceService() {
-        assessmentLevels = new HashMap<>();
+        final Map<Integer, AssessmentLevel> assessmentLevels = new HashMap<>();
         assessmentLevels.put(1, new AssessmentLevel(1, "Compliant"));
         assessmentLevels.put(2, new AssessmentLevel(2, "Not compliant"));
 
-        complianceLevels = new HashMap<>();
+        final Map<Integer, ComplianceLevel> complianceLevels = new HashMap<>();
         complianceLevels.put(
                 1,
                 new ComplianceLevel(
@@ -123,6 +129,9 @@ public class BasicQuantumSafeComplianceService implements IComplianceService {
                         "gray",
                         ComplianceLevel.ComplianceIcon.NOT_APPLICABLE,
                         1));
+        // the service is shared between requests, so its state is fixed after construction
+        this.assessmentLevels = Collections.unmodifiableMap(new TreeMap<>(assessmentLevels));
+        this.complianceLevels = Collections.unmodifiableMap(new TreeMap<>(complianceLevels));
     }
 
     @Override
@@ -154,36 +163,30 @@ public class BasicQuantumSafeComplianceService implements IComplianceService {
         List<ICryptographicAssetPolicyResult> results = new ArrayList<>();
         AssessmentLevel worstAssessment = assessmentLevels.get(2);
 
-        System.out.println(
-                "Starting evaluation of "
-                        + cryptographicAssets.size()
-                        + " assets for quantum-safe policy");
+        LOGGER.debug(
+                "Starting evaluation of {} assets for quantum-safe policy",
+                cryptographicAssets.size());
 
         for (CryptographicAsset asset : cryptographicAssets) {
             ICryptographicAssetPolicyResult result = evaluate(asset);
             results.add(result);
 
             ComplianceLevel level = result.complianceLevel();
-            System.out.println(
-                    "Asset '"
-                            + result.identifier()
-                            + "' evaluated with compliance level '"
-                            + level.label()
-                            + "'");
+            LOGGER.debug(
+                    "Asset '{}' evaluated with compliance level '{}'",
+                    result.identifier(),
+                    level.label());
 
             AssessmentLevel assessmentLevel = assessmentLevels.get(level.assessmentId());
 
             if (assessmentLevel == null) {
-                System.out.println(
-                        "→ No severity level found for compliance level '"
-                                + level.label()
-                                + "' (assessmentId: "
-                                + level.assessmentId()
-                                + "). Using default severity '"
-                                + getDefaultAssessmentLevel().getLabel()
-                                + "'");
+                LOGGER.debug(
+                        "→ No severity level found for compliance level '{}' (assessmentId: {}). Using default severity '{}'",
+                        level.label(),
+                        level.assessmentId(),
+                        getDefaultAssessmentLevel().getLabel());
             } else {
-                System.out.println("→ Mapped to severity: '" + assessmentLevel.getLabel() + "'");
+                LOGGER.debug("→ Mapped to severity: '{}'", assessmentLevel.getLabel());
                 if (worstAssessment == null || assessmentLevel.getId() > worstAssessment.getId()) {
                     worstAssessment = assessmentLevel;
                 }
@@ -191,10 +194,10 @@ public class BasicQuantumSafeComplianceService implements IComplianceService {
         }
 
         if (worstAssessment != null) {
-            System.out.println(
-                    "Final worst severity level determined: '" + worstAssessment.getLabel() + "'");
+            LOGGER.debug(
+                    "Final worst severity level determined: '{}'", worstAssessment.getLabel());
         } else {
-            System.out.println("No severity levels were found. Defaulting to null.");
+            LOGGER.debug("No severity levels were found. Defaulting to null.");
         }
 
         return new ComplianceCheckResultDTO(results, false, worstAssessment);
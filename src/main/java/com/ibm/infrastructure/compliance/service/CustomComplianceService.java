@@ -24,8 +24,10 @@ import com.ibm.infrastructure.compliance.*;
 import com.ibm.infrastructure.compliance.service.custom.*;
 import jakarta.annotation.Nonnull;
 import java.util.*;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.cyclonedx.model.component.crypto.*;
+import org.cyclonedx.model.component.crypto.enums.AssetType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,16 +35,62 @@ public class CustomComplianceService implements IComplianceService {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomComplianceService.class);
 
+    private static final Pattern RANGE_EXPRESSION = Pattern.compile(".*[<>]=?.*\\d+.*");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NON_NUMERIC = Pattern.compile("[^0-9.]");
+    private static final Pattern GREATER_EQUAL = Pattern.compile(">=\\d+(\\.\\d+)?");
+    private static final Pattern LESS_EQUAL = Pattern.compile("<=\\d+(\\.\\d+)?");
+    private static final Pattern GREATER = Pattern.compile(">\\d+(\\.\\d+)?");
+    private static final Pattern LESS = Pattern.compile("<\\d+(\\.\\d+)?");
+    private static final Pattern NUMBER = Pattern.compile("\\d+(\\.\\d+)?");
+
+    /** A rule together with the values that only depend on the policy itself. */
+    private record CompiledRule(
+            @Nonnull RuleDefinition definition, int specificity, @Nonnull ComplianceLevel level) {}
+
     private final CustomCompliancePolicy policy;
     private final Map<String, ComplianceLevel> levelMap;
     private final List<ComplianceLevel> levels;
+    private final ComplianceLevel defaultComplianceLevel;
+    private final Map<Integer, AssessmentLevel> assessmentLevels;
+    private final Map<AssetType, List<CompiledRule>> rulesByAssetType;
 
     public CustomComplianceService(CustomCompliancePolicy policy) {
         this.policy = policy;
         this.levelMap =
                 policy.getLevels().stream()
                         .collect(Collectors.toMap(l -> String.valueOf(l.id()), l -> l));
-        this.levels = new ArrayList<>(levelMap.values());
+        this.levels = List.copyOf(levelMap.values());
+        this.defaultComplianceLevel =
+                levelMap.getOrDefault(
+                        String.valueOf(policy.getDefaultLevel()),
+                        levels.stream()
+                                .findFirst()
+                                .orElseThrow(
+                                        () ->
+                                                new IllegalStateException(
+                                                        "No default compliance level defined")));
+        this.assessmentLevels = new HashMap<>();
+        for (AssessmentLevel assessmentLevel : policy.getAssessmentLevels()) {
+            this.assessmentLevels.putIfAbsent(assessmentLevel.getId(), assessmentLevel);
+        }
+        // group rules by asset type, so that an asset is only matched against relevant rules
+        this.rulesByAssetType = new EnumMap<>(AssetType.class);
+        for (RuleDefinition rule : policy.getRules()) {
+            final AssetType assetType = rule.getCryptoProperties().getAssetType();
+            if (assetType == null) {
+                continue;
+            }
+            this.rulesByAssetType
+                    .computeIfAbsent(assetType, k -> new ArrayList<>())
+                    .add(
+                            new CompiledRule(
+                                    rule,
+                                    computeSpecificity(rule),
+                                    levelMap.getOrDefault(
+                                            String.valueOf(rule.getLevelId()),
+                                            defaultComplianceLevel)));
+        }
     }
 
     @Nonnull
@@ -66,14 +114,7 @@ public class CustomComplianceService implements IComplianceService {
     @Nonnull
     @Override
     public ComplianceLevel getDefaultComplianceLevel() {
-        return levelMap.getOrDefault(
-                String.valueOf(policy.getDefaultLevel()),
-                levels.stream()
-                        .findFirst()
-                        .orElseThrow(
-                                () ->
-                                        new IllegalStateException(
-                                                "No default compliance level defined")));
+        return defaultComplianceLevel;
     }
 
     @Nonnull
@@ -95,16 +136,12 @@ public class CustomComplianceService implements IComplianceService {
             results.add(result);
 
             ComplianceLevel level = result.complianceLevel();
-            logger.info(
+            logger.debug(
                     "Asset '{}' evaluated with compliance level '{}'",
                     result.identifier(),
                     level.label());
 
-            AssessmentLevel assessmentLevel =
-                    policy.getAssessmentLevels().stream()
-                            .filter(s -> s.getId() == level.assessmentId())
-                            .findFirst()
-                            .orElse(null);
+            AssessmentLevel assessmentLevel = assessmentLevels.get(level.assessmentId());
 
             if (assessmentLevel == null) {
                 logger.warn(
@@ -113,7 +150,7 @@ public class CustomComplianceService implements IComplianceService {
                         level.assessmentId(),
                         getDefaultAssessmentLevel().getLabel());
             } else {
-                logger.info("→ Mapped to severity: '{}'", assessmentLevel.getLabel());
+                logger.debug("→ Mapped to severity: '{}'", assessmentLevel.getLabel());
                 if (assessmentLevel.getId() > worstAssessment.getId()) {
                     worstAssessment = assessmentLevel;
                 }
@@ -133,10 +170,11 @@ public class CustomComplianceService implements IComplianceService {
         StringBuilder combinedDescription = new StringBuilder();
         String bestDescription = null;
 
-        List<RuleDefinition> rules = policy.getRules();
-        for (RuleDefinition rule : rules) {
+        List<CompiledRule> rules =
+                rulesByAssetType.getOrDefault(props.getAssetType(), List.of());
+        for (CompiledRule compiledRule : rules) {
+            RuleDefinition rule = compiledRule.definition();
             CryptoProperties ruleProps = rule.getCryptoProperties();
-            if (!Objects.equals(ruleProps.getAssetType(), props.getAssetType())) continue;
 
             logger.debug("Evaluating rule: {}", rule.getDescription());
 
@@ -172,10 +210,8 @@ public class CustomComplianceService implements IComplianceService {
                     };
 
             if (matched) {
-                int specificity = computeSpecificity(rule);
-                ComplianceLevel level =
-                        levelMap.getOrDefault(
-                                String.valueOf(rule.getLevelId()), getDefaultComplianceLevel());
+                int specificity = compiledRule.specificity();
+                ComplianceLevel level = compiledRule.level();
 
                 if (specificity > highestSpecificity
                         || (specificity == highestSpecificity && level.id() > bestLevel.id())) {
@@ -219,26 +255,27 @@ public class CustomComplianceService implements IComplianceService {
             String actualStr = actualValue.toString().trim();
 
             // Handle range expressions like ">=128 <512"
-            if (rule.matches(".*[<>]=?.*\\d+.*")) {
+            if (RANGE_EXPRESSION.matcher(rule).matches()) {
                 try {
-                    double actualNum = Double.parseDouble(actualStr.replaceAll("[^0-9.]", ""));
+                    double actualNum =
+                            Double.parseDouble(NON_NUMERIC.matcher(actualStr).replaceAll(""));
                     boolean match = true;
 
-                    for (String part : rule.split("\\s+")) {
+                    for (String part : WHITESPACE.split(rule)) {
                         part = part.trim();
-                        if (part.matches(">=\\d+(\\.\\d+)?")) {
+                        if (GREATER_EQUAL.matcher(part).matches()) {
                             double min = Double.parseDouble(part.substring(2));
                             if (actualNum < min) match = false;
-                        } else if (part.matches("<=\\d+(\\.\\d+)?")) {
+                        } else if (LESS_EQUAL.matcher(part).matches()) {
                             double max = Double.parseDouble(part.substring(2));
                             if (actualNum > max) match = false;
-                        } else if (part.matches(">\\d+(\\.\\d+)?")) {
+                        } else if (GREATER.matcher(part).matches()) {
                             double min = Double.parseDouble(part.substring(1));
                             if (actualNum <= min) match = false;
-                        } else if (part.matches("<\\d+(\\.\\d+)?")) {
+                        } else if (LESS.matcher(part).matches()) {
                             double max = Double.parseDouble(part.substring(1));
                             if (actualNum >= max) match = false;
-                        } else if (part.matches("\\d+(\\.\\d+)?")) {
+                        } else if (NUMBER.matcher(part).matches()) {
                             double exact = Double.parseDouble(part);
                             if (actualNum != exact) match = false;
                         }
@@ -0,0 +1,51 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import jakarta.annotation.Nullable;
+import java.util.Locale;
+
+/**
+ * Criteria for selecting components of a stored CBOM. All criteria are optional and combined with
+ * AND. Asset types and primitives are matched case-insensitively, the name against a pattern in
+ * which {@code *} matches any sequence of characters, and the occurrence path as a prefix of the
+ * location of at least one occurrence.
+ */
+public record CBOMComponentFilter(
+        @Nullable String assetType,
+        @Nullable String primitive,
+        @Nullable String namePattern,
+        @Nullable String pathPrefix) {
+
+    public CBOMComponentFilter {
+        assetType = normalize(assetType);
+        primitive = normalize(primitive);
+        namePattern = namePattern == null || namePattern.isBlank() ? null : namePattern.trim();
+        pathPrefix = pathPrefix == null || pathPrefix.isBlank() ? null : pathPrefix.trim();
+    }
+
+    /** The form in which CycloneDX serializes asset types and primitives. */
+    @Nullable private static String normalize(@Nullable String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
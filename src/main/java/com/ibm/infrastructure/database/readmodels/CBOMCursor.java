@@ -0,0 +1,70 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Position in the listing of stored CBOMs, which is ordered by creation time and id (both
+ * descending). The cursor is handed to clients as an opaque string.
+ */
+public record CBOMCursor(@Nonnull Timestamp createdAt, @Nonnull UUID id) {
+
+    @Nonnull
+    public static CBOMCursor of(@Nonnull CBOMSummary summary) {
+        return new CBOMCursor(summary.createdAt(), summary.id());
+    }
+
+    @Nonnull
+    public String encode() {
+        final String value = this.createdAt.toInstant() + "_" + this.id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nonnull
+    public static Optional<CBOMCursor> decode(@Nullable String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            final String value =
+                    new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separator = value.lastIndexOf('_');
+            if (separator < 0) {
+                return Optional.empty();
+            }
+            return Optional.of(
+                    new CBOMCursor(
+                            Timestamp.from(Instant.parse(value.substring(0, separator))),
+                            UUID.fromString(value.substring(separator + 1))));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
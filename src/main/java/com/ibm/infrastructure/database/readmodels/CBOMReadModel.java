@@ -66,6 +66,12 @@ public class CBOMReadModel extends PanacheEntityBase implements IReadModel<UUID>
     @Nullable protected String commit;
     @Nonnull protected Timestamp createdAt;
 
+    /** Number of components of the CBOM, so that listings do not have to load the CBOM. */
+    @JsonIgnore @Nullable protected Integer numberOfComponents;
+
+    /** Whether the crypto assets of the CBOM were indexed, see {@link CryptoAssetReadModel}. */
+    @JsonIgnore protected boolean cryptoAssetsIndexed;
+
     @Nonnull
     @JdbcTypeCode(SqlTypes.JSON)
     protected JsonNode bom;
@@ -87,6 +93,7 @@ public class CBOMReadModel extends PanacheEntityBase implements IReadModel<UUID>
         this.packageFolder = packageFolder;
         this.commit = commit;
         this.createdAt = createdAt;
+        this.numberOfComponents = bom.path("components").size();
         this.bom = bom;
     }
 
@@ -124,6 +131,10 @@ public class CBOMReadModel extends PanacheEntityBase implements IReadModel<UUID>
         return createdAt;
     }
 
+    @Nullable public Integer getNumberOfComponents() {
+        return numberOfComponents;
+    }
+
     @Nonnull
     public JsonNode getBom() {
         return bom;
@@ -0,0 +1,146 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps recently read CBOM read models in memory, so that repeated requests for the same CBOM
+ * neither query the database nor deserialize the bom again.
+ *
+ * <p>Read models are bounded by their estimated size and keyed by id. Which read model is the
+ * latest of a project or repository is not cached, since scans stored by other replicas change it
+ * without this cache noticing. Loads that started before a save or delete are not cached, see
+ * {@link #generation()}. Cached read models are shared and must not be modified.
+ */
+@Singleton
+public final class CBOMReadModelCache {
+    private static final String CACHE_NAME = "cbom-read-models";
+    private static final int NODE_BYTES = 48;
+
+    @Nonnull private final Cache<UUID, CBOMReadModel> readModels;
+    @Nonnull private final AtomicLong generation = new AtomicLong();
+
+    public CBOMReadModelCache(
+            @Nonnull IReadModelCacheConfiguration configuration,
+            @Nonnull MeterRegistry meterRegistry) {
+        this(configuration.getReadModelCacheMaxBytes(), configuration.getReadModelCacheTtl());
+        CaffeineCacheMetrics.monitor(meterRegistry, this.readModels, CACHE_NAME);
+        Gauge.builder("cbomkit.readmodels.cache.weight", this, CBOMReadModelCache::weightedSize)
+                .description("Estimated memory held by cached CBOM read models")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    CBOMReadModelCache(long maxBytes, @Nonnull Duration ttl) {
+        this.readModels =
+                Caffeine.newBuilder()
+                        .maximumWeight(maxBytes)
+                        .weigher(
+                                (UUID id, CBOMReadModel readModel) ->
+                                        (int) Math.min(Integer.MAX_VALUE, estimateBytes(readModel)))
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Returns a counter that changes whenever cached entries are invalidated. Take it before
+     * loading from the database and pass it to {@code put}, so that a load racing with a save
+     * does not cache the previous state.
+     */
+    public long generation() {
+        return this.generation.get();
+    }
+
+    @Nonnull
+    public Optional<CBOMReadModel> get(@Nonnull UUID id) {
+        return Optional.ofNullable(this.readModels.getIfPresent(id));
+    }
+
+    public void put(long generation, @Nonnull CBOMReadModel readModel) {
+        synchronized (this.generation) {
+            if (generation != this.generation.get()) {
+                return;
+            }
+            this.readModels.put(readModel.getId(), readModel);
+        }
+    }
+
+    /** Called when a read model was saved, the saved state is cached right away. */
+    public void refresh(@Nonnull CBOMReadModel readModel) {
+        synchronized (this.generation) {
+            this.generation.incrementAndGet();
+            this.readModels.put(readModel.getId(), readModel);
+        }
+    }
+
+    /** Called when a read model was deleted. */
+    public void invalidate(@Nonnull CBOMReadModel readModel) {
+        synchronized (this.generation) {
+            this.generation.incrementAndGet();
+            this.readModels.invalidate(readModel.getId());
+        }
+    }
+
+    long weightedSize() {
+        return this.readModels
+                .policy()
+                .eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    /** Rough size of the read model on the heap, dominated by the nodes of the bom. */
+    static long estimateBytes(@Nonnull CBOMReadModel readModel) {
+        long bytes = NODE_BYTES * 8L;
+        final Deque<JsonNode> pending = new ArrayDeque<>();
+        pending.push(readModel.getBom());
+        while (!pending.isEmpty()) {
+            final JsonNode node = pending.pop();
+            bytes += NODE_BYTES;
+            if (node.isTextual()) {
+                bytes += node.textValue().length();
+            } else if (node.isObject()) {
+                for (final Map.Entry<String, JsonNode> property : node.properties()) {
+                    bytes += NODE_BYTES + property.getKey().length();
+                    pending.push(property.getValue());
+                }
+            } else if (node.isArray()) {
+                node.forEach(pending::push);
+            }
+        }
+        return bytes;
+    }
+}
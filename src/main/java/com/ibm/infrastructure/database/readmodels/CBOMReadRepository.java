@@ -21,6 +21,8 @@ package com.ibm.infrastructure.database.readmodels;
 
 import app.bootstrap.core.ddd.IDomainEventBus;
 import app.bootstrap.core.ddd.ReadRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.packageurl.PackageURL;
 import com.ibm.domain.scanning.Commit;
 import com.ibm.domain.scanning.GitUrl;
@@ -31,8 +33,10 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.inject.Singleton;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -44,52 +48,208 @@ import org.slf4j.LoggerFactory;
 public final class CBOMReadRepository extends ReadRepository<UUID, CBOMReadModel>
         implements ICBOMReadRepository {
     private static final Logger LOGGER = LoggerFactory.getLogger(CBOMReadRepository.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    public CBOMReadRepository(@Nonnull IDomainEventBus domainEventBus) {
+    @Nonnull private final CBOMReadModelCache cache;
+
+    public CBOMReadRepository(
+            @Nonnull IDomainEventBus domainEventBus, @Nonnull CBOMReadModelCache cache) {
         super(domainEventBus);
+        this.cache = cache;
     }
 
     @Override
     public @Nonnull Optional<CBOMReadModel> findBy(
             @Nonnull GitUrl gitUrl, @Nullable Commit commit, @Nullable Path packageFolder) {
-        return findByRepository(gitUrl.value(), commit, packageFolder);
+        return findIdByRepository(gitUrl.value(), commit, packageFolder).flatMap(this::read);
     }
 
     @Override
     public @Nonnull Optional<CBOMReadModel> findBy(
             @Nonnull PackageURL purl, @Nullable Commit commit) {
-        return findByProjectIdentifier(purl.canonicalize(), commit);
+        return findIdByProjectIdentifier(purl.canonicalize(), commit).flatMap(this::read);
     }
 
     @Override
     public @Nonnull Optional<CBOMReadModel> findBy(@Nonnull String projectIdentifier) {
-        return findByProjectIdentifier(projectIdentifier, null);
+        return findIdByProjectIdentifier(projectIdentifier, null).flatMap(this::read);
     }
 
     @Override
-    public @Nonnull Collection<CBOMReadModel> getRecent(int limit) {
+    public @Nonnull Optional<CBOMSummary> findSummaryBy(@Nonnull String projectIdentifier) {
         final EntityManager entityManager = CBOMReadModel.getEntityManager();
         final ArcContainer container = Arc.container();
         container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
-            final List<CBOMReadModel> match =
+            return entityManager
+                    .createQuery(
+                            "SELECT new com.ibm.infrastructure.database.readmodels.CBOMSummary("
+                                    + "read.id, read.projectIdentifier, read.repository,"
+                                    + " read.revision, read.packageFolder, read.commit,"
+                                    + " read.createdAt, read.numberOfComponents)"
+                                    + " FROM CBOMReadModel read"
+                                    + " WHERE read.projectIdentifier = :projectIdentifier"
+                                    + " ORDER BY read.createdAt DESC",
+                            CBOMSummary.class)
+                    .setParameter("projectIdentifier", projectIdentifier)
+                    .setMaxResults(1)
+                    .getResultStream()
+                    .findFirst();
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        } finally {
+            container.requestContext().terminate();
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public @Nonnull List<JsonNode> findComponents(
+            @Nonnull UUID id, @Nonnull CBOMComponentFilter filter, int offset, int limit) {
+        final StringBuilder sql =
+                new StringBuilder(
+                        "SELECT CAST(c.component AS text) FROM cbomread_model r"
+                                + " CROSS JOIN LATERAL jsonb_array_elements(r.bom -> 'components')"
+                                + " WITH ORDINALITY AS c(component, idx)"
+                                + " WHERE r.id = :id");
+        if (filter.assetType() != null) {
+            sql.append(
+                    " AND lower(c.component -> 'cryptoProperties' ->> 'assetType') = :assetType");
+        }
+        if (filter.primitive() != null) {
+            sql.append(
+                    " AND lower(c.component -> 'cryptoProperties' -> 'algorithmProperties'"
+                            + " ->> 'primitive') = :primitive");
+        }
+        if (filter.namePattern() != null) {
+            sql.append(" AND c.component ->> 'name' ILIKE :name ESCAPE '\\'");
+        }
+        if (filter.pathPrefix() != null) {
+            sql.append(
+                    " AND EXISTS (SELECT 1 FROM jsonb_array_elements("
+                            + "c.component -> 'evidence' -> 'occurrences') o"
+                            + " WHERE o ->> 'location' LIKE :path ESCAPE '\\')");
+        }
+        sql.append(" ORDER BY c.idx OFFSET :offset LIMIT :limit");
+
+        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            final Query query =
+                    entityManager
+                            .createNativeQuery(sql.toString(), String.class)
+                            .setParameter("id", id)
+                            .setParameter("offset", offset)
+                            .setParameter("limit", limit);
+            if (filter.assetType() != null) {
+                query.setParameter("assetType", filter.assetType());
+            }
+            if (filter.primitive() != null) {
+                query.setParameter("primitive", filter.primitive());
+            }
+            if (filter.namePattern() != null) {
+                query.setParameter("name", toLikePattern(filter.namePattern()));
+            }
+            if (filter.pathPrefix() != null) {
+                query.setParameter("path", escapeLike(filter.pathPrefix()) + "%");
+            }
+            final List<JsonNode> components = new ArrayList<>();
+            for (final Object component : query.getResultList()) {
+                components.add(OBJECT_MAPPER.readTree((String) component));
+            }
+            return components;
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        } finally {
+            container.requestContext().terminate();
+        }
+        return List.of();
+    }
+
+    @Override
+    public @Nonnull List<CBOMSummary> getSummaries(@Nullable CBOMCursor after, int limit) {
+        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            final String keyset =
+                    after == null
+                            ? ""
+                            : " WHERE read.createdAt < :createdAt"
+                                    + " OR (read.createdAt = :createdAt AND read.id < :id)";
+            final TypedQuery<CBOMSummary> query =
                     entityManager
                             .createQuery(
-                                    "SELECT DISTINCT read FROM CBOMReadModel read"
-                                            + " WHERE read.createdAt = ( SELECT MAX(r.createdAt) FROM CBOMReadModel r WHERE r.repository = read.repository )"
-                                            + " ORDER BY read.createdAt DESC"
-                                            + " LIMIT :limit",
-                                    CBOMReadModel.class)
-                            .setParameter("limit", limit)
-                            .getResultList();
-            QuarkusTransaction.commit();
-            return match;
+                                    "SELECT new com.ibm.infrastructure.database.readmodels.CBOMSummary("
+                                            + "read.id, read.projectIdentifier, read.repository,"
+                                            + " read.revision, read.packageFolder, read.commit,"
+                                            + " read.createdAt, read.numberOfComponents)"
+                                            + " FROM CBOMReadModel read"
+                                            + keyset
+                                            + " ORDER BY read.createdAt DESC, read.id DESC",
+                                    CBOMSummary.class)
+                            .setMaxResults(limit);
+            if (after != null) {
+                query.setParameter("createdAt", after.createdAt()).setParameter("id", after.id());
+            }
+            return query.getResultList();
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
+        } finally {
+            container.requestContext().terminate();
+        }
+        return List.of();
+    }
+
+    @Override
+    public @Nonnull List<UUID> findIdsByProjectIdentifierPrefix(
+            @Nullable String projectIdentifierPrefix) {
+        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            final TypedQuery<UUID> query;
+            if (projectIdentifierPrefix == null || projectIdentifierPrefix.isEmpty()) {
+                query =
+                        entityManager.createQuery(
+                                "SELECT read.id FROM CBOMReadModel read"
+                                        + " ORDER BY read.projectIdentifier",
+                                UUID.class);
+            } else {
+                query =
+                        entityManager
+                                .createQuery(
+                                        "SELECT read.id FROM CBOMReadModel read"
+                                                + " WHERE read.projectIdentifier LIKE :prefix ESCAPE '\\'"
+                                                + " ORDER BY read.projectIdentifier",
+                                        UUID.class)
+                                .setParameter("prefix", escapeLike(projectIdentifierPrefix) + "%");
             }
+            final List<UUID> ids = query.getResultList();
+            return ids;
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        } finally {
+            container.requestContext().terminate();
+        }
+        return List.of();
+    }
+
+    @Override
+    public @Nonnull List<UUID> findIdsWithoutIndexedCryptoAssets() {
+        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            return entityManager
+                    .createQuery(
+                            "SELECT read.id FROM CBOMReadModel read"
+                                    + " WHERE read.cryptoAssetsIndexed = false",
+                            UUID.class)
+                    .getResultList();
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
         } finally {
             container.requestContext().terminate();
         }
@@ -98,20 +258,27 @@ public final class CBOMReadRepository extends ReadRepository<UUID, CBOMReadModel
 
     @Override
     public @Nonnull Optional<CBOMReadModel> read(@Nonnull UUID uuid) {
+        final Optional<CBOMReadModel> cached = this.cache.get(uuid);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        final long generation = this.cache.generation();
+        final Optional<CBOMReadModel> loaded = load(uuid);
+        loaded.ifPresent(readModel -> this.cache.put(generation, readModel));
+        return loaded;
+    }
+
+    private @Nonnull Optional<CBOMReadModel> load(@Nonnull UUID uuid) {
         final EntityManager entityManager = CBOMReadModel.getEntityManager();
         final ArcContainer container = Arc.container();
         container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
+            // reads need no JTA transaction, the request context is enough to open a session
             final Optional<CBOMReadModel> cbomReadModel =
                     Optional.ofNullable(entityManager.find(CBOMReadModel.class, uuid));
-            QuarkusTransaction.commit();
             return cbomReadModel;
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
-            }
         } finally {
             container.requestContext().terminate();
         }
@@ -120,11 +287,25 @@ public final class CBOMReadRepository extends ReadRepository<UUID, CBOMReadModel
 
     @Override
     public void save(@Nonnull CBOMReadModel cbomReadModel) {
+        this.write(cbomReadModel, null);
+    }
+
+    @Override
+    public void save(
+            @Nonnull CBOMReadModel cbomReadModel,
+            @Nonnull Collection<CryptoAssetReadModel> cryptoAssets) {
+        this.write(cbomReadModel, cryptoAssets);
+    }
+
+    private void write(
+            @Nonnull CBOMReadModel cbomReadModel,
+            @Nullable Collection<CryptoAssetReadModel> cryptoAssets) {
         final EntityManager entityManager = CBOMReadModel.getEntityManager();
         final ArcContainer container = Arc.container();
         container.requestContext().activate();
         try {
             QuarkusTransaction.begin();
+            cbomReadModel.cryptoAssetsIndexed = cryptoAssets != null;
             final CBOMReadModel existing =
                     entityManager.find(CBOMReadModel.class, cbomReadModel.getId());
             if (existing == null) {
@@ -132,7 +313,14 @@ public final class CBOMReadRepository extends ReadRepository<UUID, CBOMReadModel
             } else {
                 entityManager.merge(cbomReadModel);
             }
+            if (cryptoAssets != null) {
+                // the assets refer to the read model, which has to be written first
+                entityManager.flush();
+                CryptoAssetReadRepository.replace(
+                        entityManager, cbomReadModel.getId(), cryptoAssets);
+            }
             QuarkusTransaction.commit();
+            this.cache.refresh(cbomReadModel);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
             if (QuarkusTransaction.isActive()) {
@@ -154,6 +342,7 @@ public final class CBOMReadRepository extends ReadRepository<UUID, CBOMReadModel
                     Optional.ofNullable(entityManager.find(CBOMReadModel.class, uuid));
             cbomReadModel.ifPresent(entityManager::remove);
             QuarkusTransaction.commit();
+            cbomReadModel.ifPresent(this.cache::invalidate);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
             if (QuarkusTransaction.isActive()) {
@@ -164,17 +353,19 @@ public final class CBOMReadRepository extends ReadRepository<UUID, CBOMReadModel
         }
     }
 
-    private @Nonnull Optional<CBOMReadModel> findByRepository(
+    /**
+     * Resolves the latest matching read model on every call. Which one is the latest changes with
+     * scans stored by any replica, so only the read model itself is cached.
+     */
+    private @Nonnull Optional<UUID> findIdByRepository(
             @Nonnull String repository, @Nullable Commit commit, @Nullable Path packageFolder) {
         final EntityManager entityManager = CBOMReadModel.getEntityManager();
         final ArcContainer container = Arc.container();
         container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
-
             final StringBuilder queryBuilder = new StringBuilder();
             final String baseQuery =
-                    "SELECT read FROM CBOMReadModel read WHERE read.repository = :repository";
+                    "SELECT read.id FROM CBOMReadModel read WHERE read.repository = :repository";
             queryBuilder.append(baseQuery);
 
             if (commit != null) {
@@ -186,10 +377,11 @@ public final class CBOMReadRepository extends ReadRepository<UUID, CBOMReadModel
             // set order
             queryBuilder.append(" ORDER BY createdAt desc");
 
-            final TypedQuery<CBOMReadModel> query =
+            final TypedQuery<UUID> query =
                     entityManager
-                            .createQuery(queryBuilder.toString(), CBOMReadModel.class)
-                            .setParameter("repository", repository);
+                            .createQuery(queryBuilder.toString(), UUID.class)
+                            .setParameter("repository", repository)
+                            .setMaxResults(1);
 
             if (commit != null) {
                 query.setParameter("commit", commit.hash());
@@ -197,52 +389,53 @@ public final class CBOMReadRepository extends ReadRepository<UUID, CBOMReadModel
             if (packageFolder != null) {
                 query.setParameter("packageFolder", packageFolder.toString());
             }
-            final Optional<CBOMReadModel> match = query.getResultStream().findFirst();
-            QuarkusTransaction.commit();
-            return match;
+            return query.getResultStream().findFirst();
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
-            }
         } finally {
             container.requestContext().terminate();
         }
         return Optional.empty();
     }
 
-    private @Nonnull Optional<CBOMReadModel> findByProjectIdentifier(
+    private @Nonnull Optional<UUID> findIdByProjectIdentifier(
             @Nonnull String projectIdentifier, @Nullable Commit commit) {
         final EntityManager entityManager = CBOMReadModel.getEntityManager();
         final ArcContainer container = Arc.container();
         container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
             String qString =
                     commit != null
-                            ? "SELECT read FROM CBOMReadModel read WHERE read.commit = :commit AND read.projectIdentifier = :projectIdentifier"
-                            : "SELECT read FROM CBOMReadModel read WHERE read.projectIdentifier = :projectIdentifier";
+                            ? "SELECT read.id FROM CBOMReadModel read WHERE read.commit = :commit AND read.projectIdentifier = :projectIdentifier"
+                            : "SELECT read.id FROM CBOMReadModel read WHERE read.projectIdentifier = :projectIdentifier";
             qString += " ORDER BY createdAt desc";
 
-            TypedQuery<CBOMReadModel> query =
+            TypedQuery<UUID> query =
                     entityManager
-                            .createQuery(qString, CBOMReadModel.class)
-                            .setParameter("projectIdentifier", projectIdentifier);
+                            .createQuery(qString, UUID.class)
+                            .setParameter("projectIdentifier", projectIdentifier)
+                            .setMaxResults(1);
 
             if (commit != null) {
                 query.setParameter("commit", commit.hash());
             }
-            Optional<CBOMReadModel> match = query.getResultStream().findFirst();
-            QuarkusTransaction.commit();
-            return match;
+            return query.getResultStream().findFirst();
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
-            }
         } finally {
             container.requestContext().terminate();
         }
         return Optional.empty();
     }
+
+    /** Translates a name pattern with {@code *} wildcards to a LIKE pattern. */
+    @Nonnull
+    private static String toLikePattern(@Nonnull String namePattern) {
+        return escapeLike(namePattern).replace('*', '%');
+    }
+
+    @Nonnull
+    private static String escapeLike(@Nonnull String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
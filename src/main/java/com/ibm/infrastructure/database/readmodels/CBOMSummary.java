@@ -0,0 +1,40 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/** Metadata of a stored CBOM, without the CBOM itself. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CBOMSummary(
+        @JsonIgnore @Nonnull UUID id,
+        @Nonnull String projectIdentifier,
+        @Nonnull String gitUrl,
+        @JsonProperty("branch") @Nullable String revision,
+        @Nullable String packageFolder,
+        @Nullable String commit,
+        @Nonnull Timestamp createdAt,
+        @Nullable Integer numberOfComponents) {}
@@ -0,0 +1,55 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import jakarta.annotation.Nullable;
+import java.util.Locale;
+
+/**
+ * Criteria for querying the crypto asset index. All criteria are optional and combined with AND.
+ * Asset types, names and primitives are matched case-insensitively, the key size as a lower bound.
+ */
+public record CryptoAssetFilter(
+        @Nullable String assetType,
+        @Nullable String name,
+        @Nullable String primitive,
+        @Nullable String oid,
+        @Nullable String curve,
+        @Nullable Integer minKeySize,
+        @Nullable String projectIdentifier) {
+
+    public CryptoAssetFilter {
+        assetType = normalize(assetType);
+        name = normalize(name);
+        primitive = normalize(primitive);
+        curve = curve == null || curve.isBlank() ? null : curve.trim().toLowerCase(Locale.ROOT);
+        oid = oid == null || oid.isBlank() ? null : oid.trim();
+        projectIdentifier =
+                projectIdentifier == null || projectIdentifier.isBlank() ? null : projectIdentifier;
+    }
+
+    /** The normalized form in which names, asset types and primitives are indexed. */
+    @Nullable public static String normalize(@Nullable String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+
+/**
+ * One cryptographic asset of a stored CBOM, flattened into indexed columns. The rows are derived
+ * from {@link CBOMReadModel} and replaced whenever the CBOM is replaced, so that inventory
+ * questions can be answered without parsing the stored CBOM documents.
+ */
+@Entity
+@Table(name = "crypto_asset")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CryptoAssetReadModel extends PanacheEntityBase {
+    @JsonIgnore @Id @Nonnull public UUID id;
+    @JsonIgnore @Nonnull protected UUID cbomId;
+
+    @Nonnull protected String projectIdentifier;
+
+    @JsonProperty("gitUrl")
+    @Nonnull
+    protected String repository;
+
+    @Nullable protected String commit;
+    @Nullable protected String bomRef;
+    @Nonnull protected String assetType;
+    @Nonnull protected String name;
+    @Nullable protected String primitive;
+    @Nullable protected String oid;
+    @Nullable protected Integer keySize;
+    @Nullable protected String curve;
+
+    @SuppressWarnings("java:S107")
+    public CryptoAssetReadModel(
+            @Nonnull UUID cbomId,
+            @Nonnull String projectIdentifier,
+            @Nonnull String repository,
+            @Nullable String commit,
+            @Nullable String bomRef,
+            @Nonnull String assetType,
+            @Nonnull String name,
+            @Nullable String primitive,
+            @Nullable String oid,
+            @Nullable Integer keySize,
+            @Nullable String curve) {
+        this.id = UUID.randomUUID();
+        this.cbomId = cbomId;
+        this.projectIdentifier = projectIdentifier;
+        this.repository = repository;
+        this.commit = commit;
+        this.bomRef = bomRef;
+        this.assetType = assetType;
+        this.name = name;
+        this.primitive = primitive;
+        this.oid = oid;
+        this.keySize = keySize;
+        this.curve = curve;
+    }
+
+    protected CryptoAssetReadModel() {}
+
+    @Nonnull
+    public UUID getCbomId() {
+        return cbomId;
+    }
+
+    @Nonnull
+    public String getProjectIdentifier() {
+        return projectIdentifier;
+    }
+
+    @Nonnull
+    public String getRepository() {
+        return repository;
+    }
+
+    @Nullable public String getCommit() {
+        return commit;
+    }
+
+    @Nullable public String getBomRef() {
+        return bomRef;
+    }
+
+    @Nonnull
+    public String getAssetType() {
+        return assetType;
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    @Nullable public String getPrimitive() {
+        return primitive;
+    }
+
+    @Nullable public String getOid() {
+        return oid;
+    }
+
+    @Nullable public Integer getKeySize() {
+        return keySize;
+    }
+
+    @Nullable public String getCurve() {
+        return curve;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Singleton
+public final class CryptoAssetReadRepository implements ICryptoAssetReadRepository {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CryptoAssetReadRepository.class);
+    private static final int FLUSH_INTERVAL = 500;
+
+    @Override
+    public void replace(@Nonnull UUID cbomId, @Nonnull Collection<CryptoAssetReadModel> assets) {
+        final EntityManager entityManager = CryptoAssetReadModel.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            QuarkusTransaction.begin();
+            // locks the CBOM, so that it cannot be deleted before the assets are written
+            final int marked =
+                    entityManager
+                            .createQuery(
+                                    "UPDATE CBOMReadModel read SET read.cryptoAssetsIndexed = true"
+                                            + " WHERE read.id = :cbomId")
+                            .setParameter("cbomId", cbomId)
+                            .executeUpdate();
+            if (marked > 0) {
+                replace(entityManager, cbomId, assets);
+            }
+            QuarkusTransaction.commit();
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            if (QuarkusTransaction.isActive()) {
+                QuarkusTransaction.rollback();
+            }
+        } finally {
+            container.requestContext().terminate();
+        }
+    }
+
+    /** Replaces the assets of a CBOM within the transaction of the caller. */
+    static void replace(
+            @Nonnull EntityManager entityManager,
+            @Nonnull UUID cbomId,
+            @Nonnull Collection<CryptoAssetReadModel> assets) {
+        entityManager
+                .createQuery("DELETE FROM CryptoAssetReadModel a WHERE a.cbomId = :cbomId")
+                .setParameter("cbomId", cbomId)
+                .executeUpdate();
+        int count = 0;
+        for (final CryptoAssetReadModel asset : assets) {
+            entityManager.persist(asset);
+            if (++count % FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        final EntityManager entityManager = CryptoAssetReadModel.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            final boolean empty =
+                    entityManager
+                            .createQuery("SELECT a.id FROM CryptoAssetReadModel a", UUID.class)
+                            .setMaxResults(1)
+                            .getResultList()
+                            .isEmpty();
+            return empty;
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        } finally {
+            container.requestContext().terminate();
+        }
+        return false;
+    }
+
+    @Override
+    public @Nonnull List<CryptoAssetReadModel> find(
+            @Nonnull CryptoAssetFilter filter, int limit) {
+        final EntityManager entityManager = CryptoAssetReadModel.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            final TypedQuery<CryptoAssetReadModel> query =
+                    entityManager
+                            .createQuery(
+                                    "SELECT a FROM CryptoAssetReadModel a"
+                                            + where(filter)
+                                            + " ORDER BY a.projectIdentifier, a.name",
+                                    CryptoAssetReadModel.class)
+                            .setMaxResults(limit);
+            bind(query, filter);
+            return query.getResultList();
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        } finally {
+            container.requestContext().terminate();
+        }
+        return List.of();
+    }
+
+    @Override
+    public @Nonnull List<CryptoAssetUsage> findUsages(@Nonnull CryptoAssetFilter filter) {
+        final EntityManager entityManager = CryptoAssetReadModel.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            final TypedQuery<CryptoAssetUsage> query =
+                    entityManager.createQuery(
+                            "SELECT new com.ibm.infrastructure.database.readmodels.CryptoAssetUsage("
+                                    + "a.projectIdentifier, a.repository, a.commit, COUNT(a))"
+                                    + " FROM CryptoAssetReadModel a"
+                                    + where(filter)
+                                    + " GROUP BY a.projectIdentifier, a.repository, a.commit"
+                                    + " ORDER BY a.projectIdentifier",
+                            CryptoAssetUsage.class);
+            bind(query, filter);
+            return query.getResultList();
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        } finally {
+            container.requestContext().terminate();
+        }
+        return List.of();
+    }
+
+    @Nonnull
+    private static String where(@Nonnull CryptoAssetFilter filter) {
+        final List<String> conditions = new ArrayList<>();
+        if (filter.assetType() != null) {
+            conditions.add("a.assetType = :assetType");
+        }
+        if (filter.name() != null) {
+            conditions.add("a.name = :name");
+        }
+        if (filter.primitive() != null) {
+            conditions.add("a.primitive = :primitive");
+        }
+        if (filter.oid() != null) {
+            conditions.add("a.oid = :oid");
+        }
+        if (filter.curve() != null) {
+            conditions.add("a.curve = :curve");
+        }
+        if (filter.minKeySize() != null) {
+            conditions.add("a.keySize >= :minKeySize");
+        }
+        if (filter.projectIdentifier() != null) {
+            conditions.add("a.projectIdentifier = :projectIdentifier");
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static void bind(@Nonnull TypedQuery<?> query, @Nonnull CryptoAssetFilter filter) {
+        if (filter.assetType() != null) {
+            query.setParameter("assetType", filter.assetType());
+        }
+        if (filter.name() != null) {
+            query.setParameter("name", filter.name());
+        }
+        if (filter.primitive() != null) {
+            query.setParameter("primitive", filter.primitive());
+        }
+        if (filter.oid() != null) {
+            query.setParameter("oid", filter.oid());
+        }
+        if (filter.curve() != null) {
+            query.setParameter("curve", filter.curve());
+        }
+        if (filter.minKeySize() != null) {
+            query.setParameter("minKeySize", filter.minKeySize());
+        }
+        if (filter.projectIdentifier() != null) {
+            query.setParameter("projectIdentifier", filter.projectIdentifier());
+        }
+    }
+}
@@ -20,6 +20,7 @@
 package com.ibm.infrastructure.database.readmodels;
 
 import app.bootstrap.core.ddd.IReadRepository;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.packageurl.PackageURL;
 import com.ibm.domain.scanning.Commit;
 import com.ibm.domain.scanning.GitUrl;
@@ -27,6 +28,7 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -50,6 +52,68 @@ public interface ICBOMReadRepository extends IReadRepository<UUID, CBOMReadModel
     @Nonnull
     Optional<CBOMReadModel> findBy(@Nonnull String projectIdentifier);
 
+    /**
+     * Returns the metadata of the latest CBOM of the project, without loading the CBOM. Used to
+     * answer conditional requests.
+     *
+     * @param projectIdentifier the project identifier of the CBOM.
+     * @return summary of the CBOM read model.
+     */
+    @Nonnull
+    Optional<CBOMSummary> findSummaryBy(@Nonnull String projectIdentifier);
+
+    /**
+     * Returns the components of a stored CBOM that match the filter, in the order of the CBOM. The
+     * components are selected by the database, so that the CBOM is not loaded as a whole.
+     *
+     * @param id the id of the CBOM read model
+     * @param filter the criteria the components have to match
+     * @param offset the number of matching components to skip
+     * @param limit the maximum number of components to return
+     * @return the matching components as CycloneDX JSON.
+     */
+    @Nonnull
+    List<JsonNode> findComponents(
+            @Nonnull UUID id, @Nonnull CBOMComponentFilter filter, int offset, int limit);
+
+    /**
+     * Returns summaries of the stored CBOMs, most recent first, without loading the CBOMs.
+     *
+     * @param after the position after which to continue (optional, starts with the most recent
+     *     CBOM if null)
+     * @param limit the maximum number of summaries to return
+     * @return summaries ordered by creation time and id, both descending.
+     */
+    @Nonnull
+    List<CBOMSummary> getSummaries(@Nullable CBOMCursor after, int limit);
+
+    /**
+     * Returns the ids of all stored CBOMs whose project identifier starts with the given prefix,
+     * without loading the CBOMs themselves.
+     *
+     * @param projectIdentifierPrefix the prefix to filter by (optional, all CBOMs if null)
+     * @return ids of the matching CBOM read models.
+     */
+    @Nonnull
+    List<UUID> findIdsByProjectIdentifierPrefix(@Nullable String projectIdentifierPrefix);
+
+    /**
+     * Saves the read model together with its crypto assets in one transaction, replacing the
+     * assets previously indexed for it.
+     *
+     * @param cbomReadModel the read model to save
+     * @param cryptoAssets the crypto assets of the CBOM
+     */
+    void save(
+            @Nonnull CBOMReadModel cbomReadModel,
+            @Nonnull Collection<CryptoAssetReadModel> cryptoAssets);
+
+    /**
+     * Returns the ids of the CBOMs whose crypto assets were never indexed, because they were
+     * stored before the index existed.
+     *
+     * @return ids of the CBOM read models without indexed crypto assets.
+     */
     @Nonnull
-    Collection<CBOMReadModel> getRecent(int limit);
+    List<UUID> findIdsWithoutIndexedCryptoAssets();
 }
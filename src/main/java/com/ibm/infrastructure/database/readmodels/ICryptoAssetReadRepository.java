@@ -0,0 +1,50 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ICryptoAssetReadRepository {
+
+    /**
+     * Replaces all indexed assets of a CBOM in one transaction and marks the CBOM as indexed.
+     * Nothing is written if the CBOM no longer exists. The assets of a CBOM are deleted together
+     * with it.
+     *
+     * @param cbomId the id of the CBOM read model the assets belong to
+     * @param assets the new assets of the CBOM
+     */
+    void replace(@Nonnull UUID cbomId, @Nonnull Collection<CryptoAssetReadModel> assets);
+
+    boolean isEmpty();
+
+    @Nonnull
+    List<CryptoAssetReadModel> find(@Nonnull CryptoAssetFilter filter, int limit);
+
+    /**
+     * Returns the stored CBOMs that contain at least one asset matching the filter, together with
+     * the number of matching assets per CBOM.
+     */
+    @Nonnull
+    List<CryptoAssetUsage> findUsages(@Nonnull CryptoAssetFilter filter);
+}
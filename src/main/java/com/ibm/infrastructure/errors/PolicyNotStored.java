@@ -1,6 +1,6 @@
 /*
  * CBOMkit
- * Copyright (C) 2024 IBM
+ * Copyright (C) 2025 IBM
  *
  * Licensed to the Apache Software Foundation (ASF) under one or more
  * contributor license agreements.  See the NOTICE file distributed with
@@ -17,13 +17,12 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package com.ibm.infrastructure.compliance;
+package com.ibm.infrastructure.errors;
 
-import com.ibm.infrastructure.compliance.service.IComplianceService;
 import jakarta.annotation.Nonnull;
 
-public interface IComplianceConfiguration {
-
-    @Nonnull
-    IComplianceService getComplianceService();
+public class PolicyNotStored extends Exception {
+    public PolicyNotStored(@Nonnull String policyId, @Nonnull Throwable cause) {
+        super("policy " + policyId + " could not be stored", cause);
+    }
 }
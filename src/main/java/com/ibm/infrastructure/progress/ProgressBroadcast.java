@@ -0,0 +1,110 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.progress;
+
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends the progress of one scan to every client waiting for it. Clients that attach while the
+ * scan is running first receive the messages sent so far, so that they end up with the same
+ * progress, detections and CBOM as the client that started it. A client that disconnects is
+ * dropped; the scan is only abandoned once no client is left.
+ */
+public final class ProgressBroadcast implements IProgressDispatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProgressBroadcast.class);
+
+    @Nonnull private final List<IProgressDispatcher> clients;
+    @Nonnull private final List<ProgressMessage> sent;
+    @Nonnull private final Consumer<ProgressBroadcast> onClose;
+    private boolean closed;
+
+    public ProgressBroadcast(
+            @Nonnull IProgressDispatcher client, @Nonnull Consumer<ProgressBroadcast> onClose) {
+        this.clients = new ArrayList<>(List.of(client));
+        this.sent = new ArrayList<>();
+        this.onClose = onClose;
+        this.closed = false;
+    }
+
+    /**
+     * Replays the messages sent so far to the client and adds it to the receivers of this scan.
+     *
+     * @return false if the scan has already ended, in which case the client is not attached
+     */
+    public synchronized boolean attach(@Nonnull IProgressDispatcher client) {
+        if (this.closed) {
+            return false;
+        }
+        for (final ProgressMessage message : this.sent) {
+            if (!deliver(client, message)) {
+                return true;
+            }
+        }
+        this.clients.add(client);
+        return true;
+    }
+
+    @Override
+    public synchronized void send(@Nonnull ProgressMessage progressMessage)
+            throws ClientDisconnected {
+        // a late client only needs the latest label, not every step of the clone progress
+        final int last = this.sent.size() - 1;
+        if (progressMessage.type() == ProgressMessageType.LABEL
+                && last >= 0
+                && this.sent.get(last).type() == ProgressMessageType.LABEL) {
+            this.sent.set(last, progressMessage);
+        } else {
+            this.sent.add(progressMessage);
+        }
+        this.clients.removeIf(client -> !deliver(client, progressMessage));
+        if (this.clients.isEmpty()) {
+            throw new ClientDisconnected("All clients waiting for the scan disconnected");
+        }
+    }
+
+    /** Ends the broadcast once the scan is over. Clients attaching later start a new scan. */
+    public void close() {
+        synchronized (this) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            this.sent.clear();
+        }
+        this.onClose.accept(this);
+    }
+
+    private static boolean deliver(
+            @Nonnull IProgressDispatcher client, @Nonnull ProgressMessage progressMessage) {
+        try {
+            client.send(progressMessage);
+            return true;
+        } catch (ClientDisconnected e) {
+            LOGGER.info("Dropped a disconnected client from a running scan");
+            return false;
+        }
+    }
+}
@@ -31,5 +31,6 @@ public enum ProgressMessageType {
     REVISION_HASH,
     SCANNED_FILE_COUNT,
     SCANNED_NUMBER_OF_LINES,
-    SCANNED_DURATION
+    SCANNED_DURATION,
+    SCAN_TIMELINE
 }
@@ -20,6 +20,9 @@
 package com.ibm.infrastructure.scanning;
 
 import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 
 public interface IScanConfiguration {
 
@@ -28,4 +31,49 @@ public interface IScanConfiguration {
 
     @Nonnull
     String getJavaDependencyJARSPath();
+
+    /** Base URI of the deps.dev PURL endpoint, the URL-encoded PURL is appended. */
+    @Nonnull
+    String getDepsDevEndpoint();
+
+    /** Connect and response timeout for requests to deps.dev. */
+    @Nonnull
+    Duration getPurlResolutionTimeout();
+
+    /** How long a PURL resolved to a git repository is reused. */
+    @Nonnull
+    Duration getPurlResolutionCacheTtl();
+
+    /** How long a PURL that deps.dev could not resolve is not requested again. */
+    @Nonnull
+    Duration getPurlResolutionNegativeCacheTtl();
+
+    /**
+     * URL prefixes that are cloned from another location, like git's {@code url.<base>.insteadOf}.
+     * Used to scan from a mirror or from local repositories without network access.
+     */
+    @Nonnull
+    Map<String, String> getCloneUrlRewrites();
+
+    /** Whether detections are sent to the client while scanning, or only with the final CBOM. */
+    boolean isDetectionStreamingEnabled();
+
+    /** Whether files that do not refer to a cryptographic API are skipped when scanning. */
+    @Nonnull
+    PrefilterMode getPrefilterMode();
+
+    /** Whether repositories are cloned with JGit or with the git executable. */
+    @Nonnull
+    GitBackendMode getGitBackend();
+
+    /** Number of worker processes that scans run in, or 0 to scan in the service process. */
+    int getScanWorkers();
+
+    /** Maximum heap of a scan worker, as for {@code -Xmx}. */
+    @Nonnull
+    String getScanWorkerMaxHeap();
+
+    /** Class path of the scan workers, if it cannot be derived from the service's. */
+    @Nonnull
+    Optional<String> getScanWorkerClasspath();
 }
@@ -0,0 +1,36 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.scanning;
+
+import com.ibm.domain.scanning.StageTiming;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+import java.util.UUID;
+
+/** The per-stage resource usage of a scan, as returned by the API and sent after a scan. */
+public record ScanTimeline(
+        @Nonnull UUID scanId, long totalWallTimeMillis, @Nonnull List<StageTiming> stages) {
+
+    @Nonnull
+    public static ScanTimeline of(@Nonnull UUID scanId, @Nonnull List<StageTiming> stages) {
+        return new ScanTimeline(
+                scanId, stages.stream().mapToLong(StageTiming::wallTimeMillis).sum(), stages);
+    }
+}
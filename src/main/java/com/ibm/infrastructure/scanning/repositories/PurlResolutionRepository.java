@@ -0,0 +1,85 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.scanning.repositories;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the results of resolving PURLs to git repositories, including PURLs that could not be
+ * resolved, so that they survive restarts. Expiry is left to the resolver.
+ */
+@Singleton
+public final class PurlResolutionRepository {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PurlResolutionRepository.class);
+
+    /** A stored resolution. {@code gitUrl} is null if the PURL could not be resolved. */
+    public record PurlResolution(@Nullable String gitUrl, @Nonnull Instant resolvedAt) {}
+
+    @Nonnull
+    public Optional<PurlResolution> find(@Nonnull String purl) {
+        final EntityManager entityManager = ResolvedPurl.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            QuarkusTransaction.begin();
+            final Optional<PurlResolution> resolution =
+                    Optional.ofNullable(entityManager.find(ResolvedPurl.class, purl))
+                            .map(r -> new PurlResolution(r.gitUrl, r.resolvedAt.toInstant()));
+            QuarkusTransaction.commit();
+            return resolution;
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            if (QuarkusTransaction.isActive()) {
+                QuarkusTransaction.rollback();
+            }
+        } finally {
+            container.requestContext().terminate();
+        }
+        return Optional.empty();
+    }
+
+    public void save(@Nonnull String purl, @Nullable String gitUrl) {
+        final EntityManager entityManager = ResolvedPurl.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            QuarkusTransaction.begin();
+            entityManager.merge(new ResolvedPurl(purl, gitUrl));
+            QuarkusTransaction.commit();
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            if (QuarkusTransaction.isActive()) {
+                QuarkusTransaction.rollback();
+            }
+        } finally {
+            container.requestContext().terminate();
+        }
+    }
+}
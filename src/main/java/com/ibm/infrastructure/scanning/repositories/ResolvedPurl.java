@@ -0,0 +1,51 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.scanning.repositories;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.sql.Timestamp;
+
+@Entity
+class ResolvedPurl extends PanacheEntityBase {
+    @Id
+    @Nonnull
+    @Column(columnDefinition = "text")
+    public String purl;
+
+    /** The resolved git repository, or null if the PURL could not be resolved. */
+    @Nullable
+    @Column(columnDefinition = "text")
+    public String gitUrl;
+
+    @Nonnull public Timestamp resolvedAt;
+
+    protected ResolvedPurl() {}
+
+    ResolvedPurl(@Nonnull String purl, @Nullable String gitUrl) {
+        this.purl = purl;
+        this.gitUrl = gitUrl;
+        this.resolvedAt = new Timestamp(System.currentTimeMillis());
+    }
+}
@@ -19,6 +19,7 @@
  */
 package com.ibm.infrastructure.scanning.repositories;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.packageurl.MalformedPackageURLException;
 import com.github.packageurl.PackageURL;
 import com.ibm.domain.scanning.CBOM;
@@ -49,6 +50,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,6 +72,11 @@ class Scan extends PanacheEntityBase {
     @Nonnull
     public Collection<ScanResult> scanResults;
 
+    /** Stage timings, written by {@link ScanRepository#saveStageTimings}. */
+    @Nullable
+    @JdbcTypeCode(SqlTypes.JSON)
+    public JsonNode stageTimings;
+
     protected Scan() {}
 
     Scan(@Nonnull ScanAggregate aggregate) {
@@ -21,8 +21,12 @@ package com.ibm.infrastructure.scanning.repositories;
 
 import app.bootstrap.core.ddd.IDomainEventBus;
 import app.bootstrap.core.ddd.Repository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ibm.domain.scanning.ScanAggregate;
 import com.ibm.domain.scanning.ScanId;
+import com.ibm.domain.scanning.StageTiming;
 import com.ibm.infrastructure.errors.EntityNotFoundById;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
@@ -31,14 +35,18 @@ import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Singleton;
 import jakarta.persistence.EntityManager;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Singleton
 public final class ScanRepository extends Repository<ScanId, ScanAggregate>
-        implements PanacheRepository<Scan> {
+        implements PanacheRepository<Scan>, IStageTimingRepository {
     private static final Logger LOGGER = LoggerFactory.getLogger(ScanRepository.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<StageTiming>> STAGE_TIMINGS_TYPE =
+            new TypeReference<>() {};
 
     public ScanRepository(@Nonnull IDomainEventBus domainEventBus) {
         super(domainEventBus);
@@ -84,6 +92,8 @@ public final class ScanRepository extends Repository<ScanId, ScanAggregate>
             if (existing.isEmpty()) {
                 entityManager.persist(scan);
             } else {
+                // stage timings are not part of the aggregate
+                scan.stageTimings = existing.get().stageTimings;
                 entityManager.merge(scan);
             }
             QuarkusTransaction.commit();
@@ -122,4 +132,54 @@ public final class ScanRepository extends Repository<ScanId, ScanAggregate>
             container.requestContext().terminate();
         }
     }
+
+    @Override
+    public void saveStageTimings(@Nonnull ScanId id, @Nonnull List<StageTiming> stageTimings) {
+        final EntityManager entityManager = Scan.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            QuarkusTransaction.begin();
+            final JsonNode value = OBJECT_MAPPER.valueToTree(stageTimings);
+            entityManager
+                    .createQuery("UPDATE Scan s SET s.stageTimings = :stageTimings WHERE s.id = :id")
+                    .setParameter("stageTimings", value)
+                    .setParameter("id", id.getUuid())
+                    .executeUpdate();
+            QuarkusTransaction.commit();
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            if (QuarkusTransaction.isActive()) {
+                QuarkusTransaction.rollback();
+            }
+        } finally {
+            container.requestContext().terminate();
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Optional<List<StageTiming>> findStageTimings(@Nonnull ScanId id) {
+        final EntityManager entityManager = Scan.getEntityManager();
+        final ArcContainer container = Arc.container();
+        container.requestContext().activate();
+        try {
+            final List<JsonNode> match =
+                    entityManager
+                            .createQuery(
+                                    "SELECT s.stageTimings FROM Scan s WHERE s.id = :id",
+                                    JsonNode.class)
+                            .setParameter("id", id.getUuid())
+                            .getResultList();
+            if (match.isEmpty() || match.getFirst() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(OBJECT_MAPPER.convertValue(match.getFirst(), STAGE_TIMINGS_TYPE));
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        } finally {
+            container.requestContext().terminate();
+        }
+        return Optional.empty();
+    }
 }
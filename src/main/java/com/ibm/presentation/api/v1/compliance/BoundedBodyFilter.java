@@ -0,0 +1,125 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.presentation.api.v1.compliance;
+
+import com.ibm.infrastructure.Configuration;
+import jakarta.annotation.Nonnull;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Limits the body size of {@link BoundedBody} endpoints. A declared {@code Content-Length} above
+ * the limit is rejected before the body is read; otherwise, e.g. for chunked requests, the bytes
+ * are counted while reading and the request fails with 413 once the limit is crossed.
+ */
+@Provider
+@BoundedBody
+public final class BoundedBodyFilter implements ContainerRequestFilter {
+    @Nonnull private final Configuration configuration;
+
+    public BoundedBodyFilter(@Nonnull Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void filter(@Nonnull ContainerRequestContext requestContext) {
+        final long maxSize = this.configuration.getMaxInlineBodySize();
+        final String contentLength = requestContext.getHeaderString(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            long length;
+            try {
+                length = Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException e) {
+                requestContext.abortWith(Response.status(Response.Status.BAD_REQUEST).build());
+                return;
+            }
+            if (length > maxSize) {
+                requestContext.abortWith(tooLarge(maxSize));
+                return;
+            }
+        }
+        requestContext.setEntityStream(
+                new LimitedInputStream(requestContext.getEntityStream(), maxSize));
+    }
+
+    @Nonnull
+    private static Response tooLarge(long maxSize) {
+        return Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE)
+                .entity(
+                        "Request body exceeds "
+                                + maxSize
+                                + " bytes, use /api/v1/compliance/check/stream")
+                .build();
+    }
+
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final long maxSize;
+        private long count;
+
+        LimitedInputStream(@Nonnull InputStream in, long maxSize) {
+            super(in);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(@Nonnull byte[] b, int off, int len) throws IOException {
+            final int n = super.read(b, off, len);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(long n) {
+            this.count += n;
+            if (this.count > this.maxSize) {
+                throw new WebApplicationException(tooLarge(this.maxSize));
+            }
+        }
+    }
+}
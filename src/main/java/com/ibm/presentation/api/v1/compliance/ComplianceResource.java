@@ -20,22 +20,33 @@
 package com.ibm.presentation.api.v1.compliance;
 
 import app.bootstrap.core.cqrs.IQueryBus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.BulkComplianceAggregate;
+import com.ibm.infrastructure.compliance.ComplianceResult;
 import com.ibm.infrastructure.compliance.ComplianceServiceSelector;
-import com.ibm.infrastructure.compliance.service.CustomComplianceService;
 import com.ibm.infrastructure.compliance.service.IComplianceService;
-import com.ibm.infrastructure.compliance.service.custom.CustomCompliancePolicy;
-import com.ibm.infrastructure.compliance.service.custom.CustomPolicyParser;
+import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
+import com.ibm.infrastructure.errors.PolicyNotStored;
 import com.ibm.usecases.compliance.queries.RequestComplianceCheckForCBOMQuery;
 import com.ibm.usecases.compliance.queries.RequestComplianceCheckForScannedGitRepositoryQuery;
+import com.ibm.usecases.compliance.service.BulkComplianceService;
+import com.ibm.usecases.compliance.service.StreamingComplianceService;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.jboss.resteasy.reactive.RestForm;
 import org.jboss.resteasy.reactive.RestQuery;
@@ -43,16 +54,22 @@ import org.jboss.resteasy.reactive.RestQuery;
 @Path("/api/v1/compliance")
 @ApplicationScoped
 public class ComplianceResource {
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+    private static final ObjectWriter WRITER = new ObjectMapper().writer();
 
     @Nonnull protected final IQueryBus queryBus;
 
     public ComplianceResource(
-            @Nonnull IQueryBus queryBus, @Nonnull ComplianceServiceSelector complianceSelector) {
+            @Nonnull IQueryBus queryBus,
+            @Nonnull ComplianceServiceSelector complianceSelector,
+            @Nonnull ICBOMReadRepository readRepository) {
         this.queryBus = queryBus;
         this.complianceSelector = complianceSelector;
+        this.readRepository = readRepository;
     }
 
     @Nonnull protected final ComplianceServiceSelector complianceSelector;
+    @Nonnull protected final ICBOMReadRepository readRepository;
 
     @GET
     @Path("/check")
@@ -61,62 +78,158 @@ public class ComplianceResource {
                     "Verify the compliance of a stored CBOM identified by it's PURL against a policy",
             description =
                     "Returns the JSON sent by the Regulator API, containing various information about the compliance of the CBOM for a set policy.")
-    public Response checkStored(
+    public CompletionStage<Response> checkStored(
             @Nullable @RestQuery("policyIdentifier") String policyIdentifier,
             @Nullable @RestQuery("gitUrl") String gitUrl,
-            @Nullable @RestQuery("commit") String commit)
-            throws ExecutionException, InterruptedException {
+            @Nullable @RestQuery("commit") String commit) {
         if (policyIdentifier == null) {
-            return Response.status(Response.Status.BAD_REQUEST).build();
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
         }
 
         if (gitUrl == null) {
-            return Response.status(Response.Status.BAD_REQUEST).build();
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
         }
 
         return this.queryBus
                 .send(
                         new RequestComplianceCheckForScannedGitRepositoryQuery(
                                 policyIdentifier, gitUrl, commit))
-                .thenApply(res -> Response.ok(res).build())
-                .get();
+                .thenApply(res -> Response.ok(res).build());
     }
 
     @POST
     @Path("/check")
+    @BoundedBody
     @Consumes(MediaType.APPLICATION_JSON)
     @Operation(
             summary = "Verify the compliance of a provided CBOM against a policy",
             description =
                     "Returns the JSON sent by the Regulator API, containing various information about the compliance of the CBOM for a set policy.")
-    public Response check(
+    public CompletionStage<Response> check(
             @Nullable @QueryParam("policyIdentifier") String policyIdentifier,
-            @Nullable String cbomString)
-            throws ExecutionException, InterruptedException {
+            @Nullable String cbomString) {
         if (policyIdentifier == null) {
-            return Response.status(Response.Status.BAD_REQUEST).build();
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
         }
 
         if (cbomString == null) {
-            return Response.status(Response.Status.BAD_REQUEST).build();
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
         }
 
         return this.queryBus
                 .send(new RequestComplianceCheckForCBOMQuery(policyIdentifier, cbomString))
-                .thenApply(res -> Response.ok(res).build())
-                .get();
+                .thenApply(res -> Response.ok(res).build());
+    }
+
+    @POST
+    @Path("/check/stream")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(APPLICATION_NDJSON)
+    @Operation(
+            summary = "Verify the compliance of a provided CBOM against a policy while streaming",
+            description =
+                    "Reads the components of the CBOM incrementally and evaluates them as they "
+                            + "arrive. The response is newline-delimited JSON: one line per "
+                            + "finding, followed by a final line with the overall compliance "
+                            + "result (without findings).")
+    public Response checkStream(
+            @Nullable @QueryParam("policyIdentifier") String policyIdentifier,
+            @Nullable InputStream cbomStream) {
+        if (policyIdentifier == null) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        if (cbomStream == null) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        final IComplianceService complianceService =
+                this.complianceSelector.getService(policyIdentifier);
+        final StreamingOutput output =
+                out -> {
+                    ComplianceResult result;
+                    try {
+                        result =
+                                new StreamingComplianceService(complianceService)
+                                        .evaluate(
+                                                new PolicyIdentifier(policyIdentifier),
+                                                cbomStream,
+                                                finding -> writeLine(out, finding));
+                    } catch (UncheckedIOException e) {
+                        throw e.getCause();
+                    } catch (Exception e) {
+                        result = ComplianceResult.error(complianceService.getName());
+                    }
+                    writeLine(out, result);
+                    out.flush();
+                };
+        return Response.ok(output, APPLICATION_NDJSON).build();
+    }
+
+    @GET
+    @Path("/check/bulk")
+    @Produces(APPLICATION_NDJSON)
+    @Operation(
+            summary = "Verify the compliance of all stored CBOMs against a policy",
+            description =
+                    "Evaluates every stored CBOM, optionally restricted to project identifiers "
+                            + "starting with 'projectPrefix'. The response is newline-delimited "
+                            + "JSON: one summary line per CBOM, followed by a final line with "
+                            + "the aggregated counts.")
+    public Response checkBulk(
+            @Nullable @RestQuery("policyIdentifier") String policyIdentifier,
+            @Nullable @RestQuery("projectPrefix") String projectPrefix) {
+        if (policyIdentifier == null) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        final IComplianceService complianceService =
+                this.complianceSelector.getService(policyIdentifier);
+        final StreamingOutput output =
+                out -> {
+                    try {
+                        final BulkComplianceAggregate aggregate =
+                                new BulkComplianceService(this.readRepository, complianceService)
+                                        .evaluate(
+                                                new PolicyIdentifier(policyIdentifier),
+                                                projectPrefix,
+                                                summary -> writeLine(out, summary));
+                        writeLine(out, aggregate);
+                    } catch (UncheckedIOException e) {
+                        throw e.getCause();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new WebApplicationException(e);
+                    }
+                    out.flush();
+                };
+        return Response.ok(output, APPLICATION_NDJSON).build();
+    }
+
+    private static void writeLine(@Nonnull OutputStream out, @Nonnull Object value) {
+        try {
+            out.write(WRITER.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @POST
     @Path("/upload-policy")
+    @BoundedBody
     @Consumes(MediaType.MULTIPART_FORM_DATA)
     public Response uploadCustomPolicy(@RestForm("file") InputStream fileStream) {
         try {
             String toml = new String(fileStream.readAllBytes(), StandardCharsets.UTF_8);
-            CustomCompliancePolicy parsed = CustomPolicyParser.parse(toml);
-            IComplianceService service = new CustomComplianceService(parsed);
-            complianceSelector.register(parsed.getId(), service);
-            return Response.ok("Policy '" + parsed.getId() + "' registered.").build();
+            String policyId = complianceSelector.registerCustomPolicy(toml);
+            return Response.ok("Policy '" + policyId + "' registered.").build();
+        } catch (PolicyNotStored e) {
+            return Response.serverError().entity(e.getMessage()).build();
         } catch (Exception e) {
             return Response.status(Response.Status.BAD_REQUEST)
                     .entity("Error processing TOML: " + e.getMessage())
@@ -20,7 +20,12 @@
 package com.ibm.presentation.api.v1.database;
 
 import app.bootstrap.core.cqrs.IQueryBus;
+import com.ibm.infrastructure.database.readmodels.CBOMComponentFilter;
+import com.ibm.infrastructure.database.readmodels.CBOMCursor;
+import com.ibm.usecases.database.errors.NoCBOMForProjectIdentifierFound;
 import com.ibm.usecases.database.queries.GetCBOMByProjectIdentifierQuery;
+import com.ibm.usecases.database.queries.GetCBOMComponentsQuery;
+import com.ibm.usecases.database.queries.GetCBOMSummaryByProjectIdentifierQuery;
 import com.ibm.usecases.database.queries.ListStoredCBOMsQuery;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -28,15 +33,25 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.CacheControl;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import java.util.concurrent.ExecutionException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.jboss.resteasy.reactive.RestHeader;
 import org.jboss.resteasy.reactive.RestPath;
+import org.jboss.resteasy.reactive.RestQuery;
 
 @Path("/api/v1/cbom")
 @ApplicationScoped
 public class CBOMResource {
+    /** The latest CBOM of a project changes with every scan, so clients have to revalidate. */
+    private static final CacheControl REVALIDATE = CacheControl.valueOf("no-cache");
 
     @Nonnull protected final IQueryBus queryBus;
 
@@ -52,26 +67,172 @@ public class CBOMResource {
             description =
                     "Returns a list of the most recently generated CBOMs. "
                             + "The length of the list can by specified via the optional 'limit' "
-                            + "parameter.")
-    public Response getLastCBOMs(@RestPath @Nullable Integer limit)
-            throws ExecutionException, InterruptedException {
+                            + "parameter, at most "
+                            + ListStoredCBOMsQuery.MAX_LIMIT
+                            + " are returned. Only the metadata and the number of components are "
+                            + "returned, the CBOM itself is available via the project identifier.")
+    public CompletionStage<Response> getLastCBOMs(@RestPath @Nullable Integer limit) {
+        if (limit != null && limit <= 0) {
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
+        }
         return this.queryBus
                 .send(new ListStoredCBOMsQuery(limit))
-                .thenApply(readModels -> Response.ok(readModels).build())
-                .get();
+                .thenApply(page -> Response.ok(page.cboms()).build());
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "List the stored CBOMs page by page",
+            description =
+                    "Returns the metadata of the stored CBOMs, most recent first, at most "
+                            + ListStoredCBOMsQuery.MAX_LIMIT
+                            + " per page. To continue with the next page, pass the returned "
+                            + "'next' cursor as 'after'.")
+    public CompletionStage<Response> listCBOMs(
+            @Nullable @RestQuery("limit") Integer limit,
+            @Nullable @RestQuery("after") String after) {
+        if (limit != null && limit <= 0) {
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
+        }
+        final Optional<CBOMCursor> cursor = CBOMCursor.decode(after);
+        if (after != null && cursor.isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
+        }
+        return this.queryBus
+                .send(new ListStoredCBOMsQuery(limit, cursor.orElse(null)))
+                .thenApply(page -> Response.ok(page).build());
     }
 
     @GET
     @Path("/{projectIdentifier}")
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getCBOM(@RestPath @Nullable String projectIdentifier)
-            throws ExecutionException, InterruptedException {
+    @Operation(
+            summary = "Return the latest CBOM of a project",
+            description =
+                    "Supports conditional requests: the response carries an ETag and "
+                            + "Last-Modified, and a request with a matching 'If-None-Match' or "
+                            + "'If-Modified-Since' header is answered with 304 Not Modified "
+                            + "without transferring the CBOM.")
+    public CompletionStage<Response> getCBOM(
+            @RestPath @Nullable String projectIdentifier,
+            @Nullable @RestHeader("If-None-Match") String ifNoneMatch,
+            @Nullable @RestHeader("If-Modified-Since") String ifModifiedSince) {
         if (projectIdentifier == null) {
-            return Response.status(Response.Status.BAD_REQUEST).build();
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
+        }
+        final CompletionStage<Response> response;
+        if (ifNoneMatch == null && ifModifiedSince == null) {
+            response = sendCBOM(projectIdentifier);
+        } else {
+            // check the validators first, so that a matching request does not load the CBOM
+            response =
+                    this.queryBus
+                            .send(new GetCBOMSummaryByProjectIdentifierQuery(projectIdentifier))
+                            .thenCompose(
+                                    summary -> {
+                                        final CBOMVersion version =
+                                                CBOMVersion.of(
+                                                        summary.id(),
+                                                        summary.commit(),
+                                                        summary.createdAt());
+                                        if (version.isNotModified(ifNoneMatch, ifModifiedSince)) {
+                                            return CompletableFuture.completedFuture(
+                                                    Response.notModified(version.entityTag())
+                                                            .lastModified(version.lastModified())
+                                                            .cacheControl(REVALIDATE)
+                                                            .build());
+                                        }
+                                        return sendCBOM(projectIdentifier);
+                                    });
+        }
+        return response.exceptionally(CBOMResource::notFound);
+    }
+
+    @GET
+    @Path("/{projectIdentifier}/components")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Return selected components of the latest CBOM of a project",
+            description =
+                    "Returns the metadata of the CBOM and its components matching all given "
+                            + "criteria, selected by the database without loading the whole "
+                            + "CBOM. 'name' may contain '*' wildcards, 'path' is a prefix of an "
+                            + "occurrence location. 'fields' is a comma separated list of the "
+                            + "component fields to return, e.g. 'name,cryptoProperties.assetType'. "
+                            + "At most "
+                            + GetCBOMComponentsQuery.MAX_LIMIT
+                            + " components are returned per page, to continue with the next "
+                            + "page, pass the returned 'next' as 'offset'.")
+    public CompletionStage<Response> getComponents(
+            @RestPath @Nullable String projectIdentifier,
+            @Nullable @RestQuery("assetType") String assetType,
+            @Nullable @RestQuery("primitive") String primitive,
+            @Nullable @RestQuery("name") String name,
+            @Nullable @RestQuery("path") String path,
+            @Nullable @RestQuery("fields") String fields,
+            @Nullable @RestQuery("offset") Integer offset,
+            @Nullable @RestQuery("limit") Integer limit) {
+        if (projectIdentifier == null
+                || (offset != null && offset < 0)
+                || (limit != null && limit <= 0)) {
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
+        }
+        final List<String> projection =
+                fields == null
+                        ? List.of()
+                        : Arrays.stream(fields.split(","))
+                                .map(String::trim)
+                                .filter(field -> !field.isEmpty())
+                                .toList();
+        final GetCBOMComponentsQuery query =
+                new GetCBOMComponentsQuery(
+                        projectIdentifier,
+                        new CBOMComponentFilter(assetType, primitive, name, path),
+                        projection,
+                        offset,
+                        limit);
+        // the offset of the next page has to be representable
+        if (query.offset() > Integer.MAX_VALUE - query.limit()) {
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
         }
+        return this.queryBus
+                .send(query)
+                .thenApply(page -> Response.ok(page).build())
+                .exceptionally(CBOMResource::notFound);
+    }
+
+    @Nonnull
+    private CompletionStage<Response> sendCBOM(@Nonnull String projectIdentifier) {
         return this.queryBus
                 .send(new GetCBOMByProjectIdentifierQuery(projectIdentifier))
-                .thenApply(readModel -> Response.ok(readModel).build())
-                .get();
+                .thenApply(
+                        readModel -> {
+                            final CBOMVersion version =
+                                    CBOMVersion.of(
+                                            readModel.getId(),
+                                            readModel.getCommit(),
+                                            readModel.getCreatedAt());
+                            return Response.ok(readModel)
+                                    .tag(version.entityTag())
+                                    .lastModified(version.lastModified())
+                                    .cacheControl(REVALIDATE)
+                                    .build();
+                        });
+    }
+
+    /** Answers a failed query for an unknown project with 404, other failures are rethrown. */
+    @Nonnull
+    private static Response notFound(@Nonnull Throwable e) {
+        if (e.getCause() instanceof NoCBOMForProjectIdentifierFound) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        throw e instanceof CompletionException c ? c : new CompletionException(e);
     }
 }
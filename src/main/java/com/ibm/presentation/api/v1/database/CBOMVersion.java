@@ -0,0 +1,77 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.presentation.api.v1.database;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.ws.rs.core.EntityTag;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Validators of a stored CBOM for conditional requests. Every scan stores a new read model, so its
+ * id and commit identify the representation, and it is never modified after it was created.
+ */
+record CBOMVersion(@Nonnull EntityTag entityTag, @Nonnull Date lastModified) {
+
+    @Nonnull
+    static CBOMVersion of(@Nonnull UUID id, @Nullable String commit, @Nonnull Date createdAt) {
+        return new CBOMVersion(
+                new EntityTag(commit == null ? id.toString() : id + "-" + commit), createdAt);
+    }
+
+    /**
+     * Evaluates {@code If-None-Match} or, if absent, {@code If-Modified-Since} (RFC 9110, section
+     * 13.2.2) for a GET request.
+     */
+    boolean isNotModified(@Nullable String ifNoneMatch, @Nullable String ifModifiedSince) {
+        if (ifNoneMatch != null) {
+            for (final String candidate : ifNoneMatch.split(",")) {
+                final String tag = candidate.trim();
+                if (tag.equals("*")
+                        || stripWeak(tag).equals("\"" + this.entityTag.getValue() + "\"")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (ifModifiedSince != null) {
+            try {
+                final long since =
+                        ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME)
+                                .toInstant()
+                                .getEpochSecond();
+                // HTTP dates have a resolution of seconds
+                return this.lastModified.getTime() / 1000 <= since;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    @Nonnull
+    private static String stripWeak(@Nonnull String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.presentation.api.v1.database;
+
+import app.bootstrap.core.cqrs.IQueryBus;
+import com.ibm.infrastructure.database.readmodels.CryptoAssetFilter;
+import com.ibm.usecases.database.queries.FindCryptoAssetUsagesQuery;
+import com.ibm.usecases.database.queries.FindCryptoAssetsQuery;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.jboss.resteasy.reactive.RestQuery;
+
+@Path("/api/v1/assets")
+@ApplicationScoped
+public class CryptoAssetResource {
+
+    @Nonnull protected final IQueryBus queryBus;
+
+    public CryptoAssetResource(@Nonnull IQueryBus queryBus) {
+        this.queryBus = queryBus;
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Search the cryptographic assets of all stored CBOMs",
+            description =
+                    "Returns the cryptographic assets matching all given criteria, read from an "
+                            + "index that is maintained when CBOMs are stored. The number of "
+                            + "returned assets can be specified via the optional 'limit' "
+                            + "parameter.")
+    public CompletionStage<Response> findAssets(
+            @Nullable @RestQuery("assetType") String assetType,
+            @Nullable @RestQuery("name") String name,
+            @Nullable @RestQuery("primitive") String primitive,
+            @Nullable @RestQuery("oid") String oid,
+            @Nullable @RestQuery("curve") String curve,
+            @Nullable @RestQuery("minKeySize") Integer minKeySize,
+            @Nullable @RestQuery("projectIdentifier") String projectIdentifier,
+            @Nullable @RestQuery("limit") Integer limit) {
+        if (limit != null && limit <= 0) {
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
+        }
+        final CryptoAssetFilter filter =
+                new CryptoAssetFilter(
+                        assetType, name, primitive, oid, curve, minKeySize, projectIdentifier);
+        return this.queryBus
+                .send(new FindCryptoAssetsQuery(filter, limit))
+                .thenApply(assets -> Response.ok(assets).build());
+    }
+
+    @GET
+    @Path("/projects")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "List the stored CBOMs that use matching cryptographic assets",
+            description =
+                    "Answers questions like 'which projects use SHA1' by returning every stored "
+                            + "CBOM with at least one asset matching all given criteria, together "
+                            + "with the number of matching assets.")
+    public CompletionStage<Response> findProjects(
+            @Nullable @RestQuery("assetType") String assetType,
+            @Nullable @RestQuery("name") String name,
+            @Nullable @RestQuery("primitive") String primitive,
+            @Nullable @RestQuery("oid") String oid,
+            @Nullable @RestQuery("curve") String curve,
+            @Nullable @RestQuery("minKeySize") Integer minKeySize) {
+        final CryptoAssetFilter filter =
+                new CryptoAssetFilter(assetType, name, primitive, oid, curve, minKeySize, null);
+        return this.queryBus
+                .send(new FindCryptoAssetUsagesQuery(filter))
+                .thenApply(usages -> Response.ok(usages).build());
+    }
+}
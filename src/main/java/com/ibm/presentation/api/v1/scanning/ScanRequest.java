@@ -28,6 +28,7 @@ public class ScanRequest {
     private @Nullable String branch;
     private @Nullable String subfolder;
     private @Nullable Credentials credentials;
+    private @Nullable Boolean streamDetections;
 
     protected ScanRequest() {}
 
@@ -35,11 +36,13 @@ public class ScanRequest {
             @Nonnull @JsonProperty("scanUrl") String scanUrl,
             @Nullable @JsonProperty("branch") String branch,
             @Nullable @JsonProperty("subfolder") String subfolder,
-            @Nullable @JsonProperty("credentials") Credentials credentials) {
+            @Nullable @JsonProperty("credentials") Credentials credentials,
+            @Nullable @JsonProperty("streamDetections") Boolean streamDetections) {
         this.scanUrl = scanUrl;
         this.branch = branch;
         this.subfolder = subfolder;
         this.credentials = credentials;
+        this.streamDetections = streamDetections;
     }
 
     public String getScanUrl() {
@@ -57,4 +60,9 @@ public class ScanRequest {
     @Nullable public Credentials getCredentials() {
         return credentials;
     }
+
+    /** Headless clients can set this to false to not receive each detection while scanning. */
+    @Nullable public Boolean getStreamDetections() {
+        return streamDetections;
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.presentation.api.v1.scanning;
+
+import app.bootstrap.core.cqrs.IQueryBus;
+import com.ibm.domain.scanning.ScanId;
+import com.ibm.usecases.scanning.queries.GetScanTimelineQuery;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.jboss.resteasy.reactive.RestPath;
+
+@Path("/api/v1/scan")
+@ApplicationScoped
+public class ScanTimelineResource {
+
+    @Nonnull protected final IQueryBus queryBus;
+
+    public ScanTimelineResource(@Nonnull IQueryBus queryBus) {
+        this.queryBus = queryBus;
+    }
+
+    @GET
+    @Path("/{scanId}/timeline")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Return the per-stage timing of a scan",
+            description =
+                    "Returns wall time, CPU time and allocated bytes of every stage of the scan, "
+                            + "together with the stage specific counters (bytes cloned, files "
+                            + "indexed, files parsed, detections). The scan id is sent with the "
+                            + "'SCAN_TIMELINE' progress message at the end of a scan.")
+    public CompletionStage<Response> getTimeline(@RestPath @Nullable String scanId) {
+        if (scanId == null) {
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
+        }
+        final UUID uuid;
+        try {
+            uuid = UUID.fromString(scanId);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(
+                    Response.status(Response.Status.BAD_REQUEST).build());
+        }
+        return this.queryBus
+                .send(new GetScanTimelineQuery(new ScanId(uuid)))
+                .thenApply(
+                        timeline ->
+                                timeline.map(t -> Response.ok(t).build())
+                                        .orElseGet(
+                                                () ->
+                                                        Response.status(Response.Status.NOT_FOUND)
+                                                                .build()));
+    }
+}
@@ -23,19 +23,30 @@ import app.bootstrap.core.cqrs.ICommandBus;
 import app.bootstrap.core.ddd.IDomainEventBus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ibm.domain.scanning.ScanId;
+import com.ibm.domain.scanning.ScanUrl;
 import com.ibm.domain.scanning.authentication.ICredentials;
 import com.ibm.domain.scanning.authentication.PersonalAccessToken;
 import com.ibm.domain.scanning.authentication.UsernameAndPasswordCredentials;
+import com.ibm.domain.scanning.errors.InvalidScanUrl;
+import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.infrastructure.progress.ProgressBroadcast;
 import com.ibm.infrastructure.progress.ProgressMessage;
 import com.ibm.infrastructure.progress.ProgressMessageType;
 import com.ibm.infrastructure.progress.WebSocketProgressDispatcher;
 import com.ibm.infrastructure.scanning.IScanConfiguration;
 import com.ibm.infrastructure.scanning.repositories.ScanRepository;
 import com.ibm.usecases.scanning.commands.RequestScanCommand;
+import com.ibm.usecases.scanning.processmanager.InFlightScans;
 import com.ibm.usecases.scanning.processmanager.ScanProcessManager;
+import com.ibm.usecases.scanning.processmanager.ScanWorkerPool;
+import com.ibm.usecases.scanning.services.resolve.DepsDevService;
+import com.ibm.usecases.scanning.services.scan.java.JavaLibraryClasspath;
+import io.quarkus.runtime.StartupEvent;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.websocket.OnClose;
 import jakarta.websocket.OnError;
 import jakarta.websocket.OnMessage;
@@ -44,6 +55,7 @@ import jakarta.websocket.Session;
 import jakarta.websocket.server.PathParam;
 import jakarta.websocket.server.ServerEndpoint;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
@@ -57,16 +69,33 @@ public class ScanningResource {
     @Nonnull private final Map<String, Session> sessions;
     @Nonnull protected final ICommandBus commandBus;
     @Nonnull private final IDomainEventBus domainEventBus;
+    @Nonnull private final ICBOMReadRepository cbomReadRepository;
     @Nonnull private final IScanConfiguration configuration;
+    @Nonnull private final DepsDevService depsDevService;
+    @Nonnull private final ScanWorkerPool scanWorkerPool;
+    @Nonnull private final InFlightScans inFlightScans;
 
     public ScanningResource(
             @Nonnull ICommandBus commandBus,
             @Nonnull IDomainEventBus domainEventBus,
-            @Nonnull IScanConfiguration configuration) {
+            @Nonnull ICBOMReadRepository cbomReadRepository,
+            @Nonnull IScanConfiguration configuration,
+            @Nonnull DepsDevService depsDevService,
+            @Nonnull ScanWorkerPool scanWorkerPool,
+            @Nonnull InFlightScans inFlightScans) {
         this.sessions = new ConcurrentHashMap<>();
         this.commandBus = commandBus;
         this.domainEventBus = domainEventBus;
+        this.cbomReadRepository = cbomReadRepository;
         this.configuration = configuration;
+        this.depsDevService = depsDevService;
+        this.scanWorkerPool = scanWorkerPool;
+        this.inFlightScans = inFlightScans;
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        // open the java libraries once, instead of with the first scan
+        JavaLibraryClasspath.of(this.configuration.getJavaDependencyJARSPath());
     }
 
     @OnOpen
@@ -98,32 +127,78 @@ public class ScanningResource {
             final ScanRequest scanRequest =
                     new ObjectMapper().readValue(requestJSONString, ScanRequest.class);
 
-            final ScanRepository scanRepository = new ScanRepository(this.domainEventBus);
+            // reject invalid requests before they can lead a scan that others attach to
+            try {
+                new ScanUrl(Objects.requireNonNullElse(scanRequest.getScanUrl(), "")).validate();
+            } catch (InvalidScanUrl e) {
+                webSocketProgressDispatcher.send(
+                        new ProgressMessage(ProgressMessageType.ERROR, e.getMessage()));
+                return;
+            }
 
-            final ScanId scanId = new ScanId();
-            final ScanProcessManager scanProcessManager =
-                    new ScanProcessManager(
-                            scanId,
-                            this.commandBus,
-                            scanRepository,
+            final ICredentials authCredentials = getCredentials(scanRequest);
+            final boolean streamDetections =
+                    this.configuration.isDetectionStreamingEnabled()
+                            && !Boolean.FALSE.equals(scanRequest.getStreamDetections());
+            final boolean started =
+                    this.inFlightScans.runOrAttach(
+                            InFlightScans.ScanKey.of(
+                                    scanRequest.getScanUrl(),
+                                    scanRequest.getBranch(),
+                                    scanRequest.getSubfolder(),
+                                    authCredentials,
+                                    streamDetections),
                             webSocketProgressDispatcher,
-                            this.configuration);
-            this.commandBus.register(scanProcessManager);
+                            progressBroadcast ->
+                                    this.scan(
+                                            scanRequest,
+                                            authCredentials,
+                                            streamDetections,
+                                            progressBroadcast));
+            if (!started) {
+                LOGGER.info("Attached {} to a running scan of the same repository", clientId);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Error processing request", e);
+        }
+    }
 
-            final ICredentials authCredentials = getCredentials(scanRequest);
+    /** Runs the scan; the command bus returns once it ended, successful or not. */
+    private void scan(
+            @Nonnull ScanRequest scanRequest,
+            @Nullable ICredentials authCredentials,
+            boolean streamDetections,
+            @Nonnull ProgressBroadcast progressBroadcast)
+            throws ClientDisconnected {
+        final ScanRepository scanRepository = new ScanRepository(this.domainEventBus);
+
+        final ScanId scanId = new ScanId();
+        final ScanProcessManager scanProcessManager =
+                new ScanProcessManager(
+                        scanId,
+                        this.commandBus,
+                        scanRepository,
+                        this.cbomReadRepository,
+                        progressBroadcast,
+                        this.configuration,
+                        this.depsDevService,
+                        streamDetections,
+                        this.scanWorkerPool.isEnabled() ? this.scanWorkerPool : null);
+        this.commandBus.register(scanProcessManager);
 
-            webSocketProgressDispatcher.send(
-                    new ProgressMessage(ProgressMessageType.LABEL, "Starting..."));
-            commandBus.send(
+        try {
+            progressBroadcast.send(new ProgressMessage(ProgressMessageType.LABEL, "Starting..."));
+            this.commandBus.send(
                     new RequestScanCommand(
                             scanId,
                             scanRequest.getScanUrl(),
                             scanRequest.getBranch(),
                             scanRequest.getSubfolder(),
                             authCredentials));
-
-        } catch (Exception e) {
-            LOGGER.error("Error processing request", e);
+        } finally {
+            // releasing is idempotent; this covers scans the command handlers never started or
+            // ended, e.g. when the scan request was rejected
+            scanProcessManager.compensate(scanId);
         }
     }
 
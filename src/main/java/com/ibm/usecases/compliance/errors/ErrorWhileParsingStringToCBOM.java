@@ -20,10 +20,15 @@
 package com.ibm.usecases.compliance.errors;
 
 import jakarta.annotation.Nonnull;
+import java.io.IOException;
 import org.cyclonedx.exception.ParseException;
 
 public class ErrorWhileParsingStringToCBOM extends Exception {
     public ErrorWhileParsingStringToCBOM(@Nonnull ParseException parseException) {
         super("Error while parsing string to CBOM: " + parseException.getMessage());
     }
+
+    public ErrorWhileParsingStringToCBOM(@Nonnull IOException ioException) {
+        super("Error while parsing string to CBOM: " + ioException.getMessage());
+    }
 }
@@ -27,7 +27,7 @@ import com.ibm.domain.scanning.Commit;
 import com.ibm.domain.scanning.GitUrl;
 import com.ibm.infrastructure.compliance.ComplianceFinding;
 import com.ibm.infrastructure.compliance.ComplianceResult;
-import com.ibm.infrastructure.compliance.IComplianceConfiguration;
+import com.ibm.infrastructure.compliance.ComplianceServiceSelector;
 import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
 import com.ibm.infrastructure.compliance.service.IComplianceService;
 import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
@@ -44,7 +44,7 @@ public final class RequestComplianceCheckForScannedGitRepositoryQueryHandler
         extends QueryHandler<RequestComplianceCheckForScannedGitRepositoryQuery, ComplianceResult> {
 
     @Nonnull private final ICBOMReadRepository readRepository;
-    @Nonnull private final IComplianceService complianceService;
+    @Nonnull private final ComplianceServiceSelector complianceSelector;
 
     void onStart(@Observes StartupEvent event) {
         this.queryBus.register(this, RequestComplianceCheckForScannedGitRepositoryQuery.class);
@@ -53,10 +53,10 @@ public final class RequestComplianceCheckForScannedGitRepositoryQueryHandler
     public RequestComplianceCheckForScannedGitRepositoryQueryHandler(
             @Nonnull IQueryBus queryBus,
             @Nonnull ICBOMReadRepository readRepository,
-            @Nonnull IComplianceConfiguration complianceConfiguration) {
+            @Nonnull ComplianceServiceSelector complianceSelector) {
         super(queryBus);
         this.readRepository = readRepository;
-        this.complianceService = complianceConfiguration.getComplianceService();
+        this.complianceSelector = complianceSelector;
     }
 
     @Override
@@ -73,15 +73,18 @@ public final class RequestComplianceCheckForScannedGitRepositoryQueryHandler
 
         final PolicyIdentifier policyIdentifier = new PolicyIdentifier(request.policyIdentifier());
 
+        final IComplianceService selectedComplianceService =
+                this.complianceSelector.getService(policyIdentifier.id());
+
         final ComplianceCheckResultDTO complianceCheckResultDTO =
-                this.complianceService.evaluate(policyIdentifier, cryptographicAssets);
+                selectedComplianceService.evaluate(policyIdentifier, cryptographicAssets);
 
         if (complianceCheckResultDTO.isError()) {
-            return ComplianceResult.error(this.complianceService.getName());
+            return ComplianceResult.error(selectedComplianceService.getName());
         }
 
         return new ComplianceResult(
-                this.complianceService.getName(),
+                selectedComplianceService.getName(),
                 policyIdentifier.id(),
                 complianceCheckResultDTO.getPolicyResults().stream()
                         .map(
@@ -91,9 +94,9 @@ public final class RequestComplianceCheckForScannedGitRepositoryQueryHandler
                                                 result.complianceLevel().id(),
                                                 result.message()))
                         .toList(),
-                this.complianceService.getComplianceLevels(),
-                this.complianceService.getDefaultComplianceLevel().id(),
-                this.complianceService.getDefaultAssessmentLevel(),
+                selectedComplianceService.getComplianceLevels(),
+                selectedComplianceService.getDefaultComplianceLevel().id(),
+                selectedComplianceService.getDefaultAssessmentLevel(),
                 complianceCheckResultDTO.getAssessmentLevel(),
                 false);
     }
@@ -0,0 +1,208 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.compliance.service;
+
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.BulkComplianceAggregate;
+import com.ibm.infrastructure.compliance.BulkComplianceSummary;
+import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
+import com.ibm.infrastructure.compliance.service.ICryptographicAssetPolicyResult;
+import com.ibm.infrastructure.compliance.service.IComplianceService;
+import com.ibm.infrastructure.database.readmodels.CBOMReadModel;
+import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Evaluates a policy over many stored CBOMs. Every CBOM is loaded, evaluated and released by one
+ * worker, so at most one CBOM per worker is held in memory. All bulk checks share one pool of
+ * workers, and each check only submits as many CBOMs as there are workers, so concurrent checks
+ * take turns. Summaries are handed out in completion order, followed by the aggregate over all of
+ * them.
+ */
+public final class BulkComplianceService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkComplianceService.class);
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    private static final ExecutorService EXECUTOR =
+            Executors.newFixedThreadPool(
+                    PARALLELISM,
+                    Thread.ofPlatform().name("bulk-compliance-", 0).daemon().factory());
+
+    @Nonnull private final ICBOMReadRepository readRepository;
+    @Nonnull private final IComplianceService complianceService;
+    @Nonnull private final ExecutorService executor;
+    private final int parallelism;
+
+    public BulkComplianceService(
+            @Nonnull ICBOMReadRepository readRepository,
+            @Nonnull IComplianceService complianceService) {
+        this(readRepository, complianceService, EXECUTOR, PARALLELISM);
+    }
+
+    public BulkComplianceService(
+            @Nonnull ICBOMReadRepository readRepository,
+            @Nonnull IComplianceService complianceService,
+            @Nonnull ExecutorService executor,
+            int parallelism) {
+        this.readRepository = readRepository;
+        this.complianceService = complianceService;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Nonnull
+    public BulkComplianceAggregate evaluate(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nullable String projectIdentifierPrefix,
+            @Nonnull Consumer<BulkComplianceSummary> summaryConsumer)
+            throws InterruptedException {
+        final List<UUID> ids =
+                this.readRepository.findIdsByProjectIdentifierPrefix(projectIdentifierPrefix);
+        LOGGER.info(
+                "Starting bulk compliance check of {} CBOMs for policy '{}'",
+                ids.size(),
+                policyIdentifier.id());
+
+        final Map<Integer, Long> cbomsPerAssessmentLevel = new TreeMap<>();
+        final Map<Integer, Long> findingsPerComplianceLevel = new TreeMap<>();
+        int numberOfErrors = 0;
+        long numberOfAssets = 0;
+
+        final CompletionService<BulkComplianceSummary> completionService =
+                new ExecutorCompletionService<>(this.executor);
+        final Iterator<UUID> pending = ids.iterator();
+        final Set<Future<BulkComplianceSummary>> running = new HashSet<>();
+        try {
+            while (running.size() < this.parallelism && pending.hasNext()) {
+                final UUID id = pending.next();
+                running.add(completionService.submit(() -> evaluate(policyIdentifier, id)));
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                final Future<BulkComplianceSummary> completed = completionService.take();
+                running.remove(completed);
+                if (pending.hasNext()) {
+                    final UUID id = pending.next();
+                    running.add(completionService.submit(() -> evaluate(policyIdentifier, id)));
+                }
+                final BulkComplianceSummary summary;
+                try {
+                    summary = completed.get();
+                } catch (ExecutionException e) {
+                    LOGGER.error(e.getMessage(), e);
+                    numberOfErrors++;
+                    continue;
+                }
+                if (summary.error()) {
+                    numberOfErrors++;
+                } else {
+                    numberOfAssets += summary.numberOfAssets();
+                    Optional.ofNullable(summary.assessmentLevel())
+                            .ifPresent(
+                                    level ->
+                                            cbomsPerAssessmentLevel.merge(
+                                                    level.getId(), 1L, Long::sum));
+                    summary.findingsPerComplianceLevel()
+                            .forEach(
+                                    (level, count) ->
+                                            findingsPerComplianceLevel.merge(
+                                                    level, count, Long::sum));
+                }
+                summaryConsumer.accept(summary);
+            }
+        } finally {
+            // e.g. the client disconnected: the remaining CBOMs are not evaluated
+            running.forEach(future -> future.cancel(true));
+        }
+
+        return new BulkComplianceAggregate(
+                this.complianceService.getName(),
+                policyIdentifier.id(),
+                ids.size(),
+                numberOfErrors,
+                numberOfAssets,
+                cbomsPerAssessmentLevel,
+                findingsPerComplianceLevel,
+                this.complianceService.getComplianceLevels());
+    }
+
+    @Nonnull
+    private BulkComplianceSummary evaluate(
+            @Nonnull PolicyIdentifier policyIdentifier, @Nonnull UUID id) {
+        final Optional<CBOMReadModel> possibleReadModel = this.readRepository.read(id);
+        if (possibleReadModel.isEmpty()) {
+            // deleted after the ids were listed
+            return BulkComplianceSummary.error(id.toString(), null, null);
+        }
+        final CBOMReadModel readModel = possibleReadModel.get();
+        try {
+            final Collection<CryptographicAsset> cryptographicAssets =
+                    new CompliancePreparationService().transformReadModel(readModel);
+            final ComplianceCheckResultDTO result =
+                    this.complianceService.evaluate(policyIdentifier, cryptographicAssets);
+            if (result.isError()) {
+                return BulkComplianceSummary.error(
+                        readModel.getProjectIdentifier(),
+                        readModel.getRepository(),
+                        readModel.getCommit());
+            }
+            final Map<Integer, Long> findingsPerComplianceLevel = new TreeMap<>();
+            for (ICryptographicAssetPolicyResult policyResult : result.getPolicyResults()) {
+                findingsPerComplianceLevel.merge(
+                        policyResult.complianceLevel().id(), 1L, Long::sum);
+            }
+            return new BulkComplianceSummary(
+                    readModel.getProjectIdentifier(),
+                    readModel.getRepository(),
+                    readModel.getCommit(),
+                    cryptographicAssets.size(),
+                    findingsPerComplianceLevel,
+                    result.getAssessmentLevel(),
+                    false);
+        } catch (Exception e) {
+            LOGGER.error(
+                    "Compliance check failed for {}: {}",
+                    readModel.getProjectIdentifier(),
+                    e.getMessage());
+            return BulkComplianceSummary.error(
+                    readModel.getProjectIdentifier(),
+                    readModel.getRepository(),
+                    readModel.getCommit());
+        }
+    }
+}
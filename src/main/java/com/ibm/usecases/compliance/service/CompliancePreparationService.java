@@ -32,9 +32,12 @@ import com.ibm.usecases.compliance.errors.ErrorWhileParsingStringToCBOM;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import org.cyclonedx.exception.ParseException;
 import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
 import org.cyclonedx.parsers.BomParserFactory;
 import org.cyclonedx.parsers.Parser;
 
@@ -53,10 +56,13 @@ public final class CompliancePreparationService {
                         .findBy(gitUrl, commit, null)
                         .orElseThrow(() -> new CouldNotFindCBOMForGitRepository(gitUrl.value()));
 
+        return transformReadModel(cbomReadModel);
+    }
+
+    public Collection<CryptographicAsset> transformReadModel(@Nonnull CBOMReadModel cbomReadModel)
+            throws CBOMSerializationFailed {
         final CBOM cbom = CBOM.formJSON(cbomReadModel.getBom());
-        return cbom.cycloneDXbom().getComponents().stream()
-                .map(component -> new CryptographicAsset(component.getBomRef(), component))
-                .toList();
+        return cryptographicAssets(cbom.cycloneDXbom().getComponents());
     }
 
     public Collection<CryptographicAsset> transformCBOMString(@Nonnull String cbomString)
@@ -67,11 +73,33 @@ public final class CompliancePreparationService {
             Parser parser = BomParserFactory.createParser(cbomBytes);
             // Parse the BOM content
             Bom cycloneDXbom = parser.parse(cbomBytes);
-            return cycloneDXbom.getComponents().stream()
-                    .map(component -> new CryptographicAsset(component.getBomRef(), component))
-                    .toList();
+            return cryptographicAssets(cycloneDXbom.getComponents());
         } catch (ParseException e) {
             throw new ErrorWhileParsingStringToCBOM(e);
         }
     }
+
+    /**
+     * Collects the components carrying crypto properties, including the ones nested in other
+     * components, in depth-first order. Only those can be evaluated by a policy.
+     */
+    @Nonnull
+    static List<CryptographicAsset> cryptographicAssets(@Nullable List<Component> components) {
+        final List<CryptographicAsset> assets = new ArrayList<>();
+        collect(components, assets);
+        return assets;
+    }
+
+    private static void collect(
+            @Nullable List<Component> components, @Nonnull List<CryptographicAsset> assets) {
+        if (components == null) {
+            return;
+        }
+        for (final Component component : components) {
+            if (component.getCryptoProperties() != null) {
+                assets.add(new CryptographicAsset(component.getBomRef(), component));
+            }
+            collect(component.getComponents(), assets);
+        }
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.compliance.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.AssessmentLevel;
+import com.ibm.infrastructure.compliance.ComplianceFinding;
+import com.ibm.infrastructure.compliance.ComplianceResult;
+import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
+import com.ibm.infrastructure.compliance.service.IComplianceService;
+import com.ibm.usecases.compliance.errors.ErrorWhileParsingStringToCBOM;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.cyclonedx.model.Component;
+
+/**
+ * Evaluates a CBOM against a policy while it is being read. Components are parsed one at a time
+ * from the top-level {@code components} array and evaluated, together with their nested
+ * components, in small batches, so the full {@link org.cyclonedx.model.Bom} is never materialized
+ * and memory use does not depend on the CBOM size.
+ */
+public final class StreamingComplianceService {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int BATCH_SIZE = 256;
+
+    @Nonnull private final IComplianceService complianceService;
+
+    public StreamingComplianceService(@Nonnull IComplianceService complianceService) {
+        this.complianceService = complianceService;
+    }
+
+    /**
+     * Streams the findings for each component to {@code findingConsumer} as soon as its batch is
+     * evaluated.
+     *
+     * @return the overall result without findings, since those were already handed out.
+     */
+    @Nonnull
+    public ComplianceResult evaluate(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull InputStream cbom,
+            @Nonnull Consumer<ComplianceFinding> findingConsumer)
+            throws ErrorWhileParsingStringToCBOM {
+        final List<CryptographicAsset> batch = new ArrayList<>(BATCH_SIZE);
+        AssessmentLevel worstAssessment = null;
+        try (final JsonParser parser = MAPPER.getFactory().createParser(cbom)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object as CBOM");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                final JsonToken value = parser.nextToken();
+                if (!"components".equals(fieldName) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    final Component component = MAPPER.readValue(parser, Component.class);
+                    for (final CryptographicAsset asset :
+                            CompliancePreparationService.cryptographicAssets(
+                                    List.of(component))) {
+                        batch.add(asset);
+                        if (batch.size() >= BATCH_SIZE) {
+                            worstAssessment =
+                                    worst(
+                                            worstAssessment,
+                                            evaluateBatch(
+                                                    policyIdentifier, batch, findingConsumer));
+                            batch.clear();
+                        }
+                    }
+                }
+            }
+            if (!batch.isEmpty() || worstAssessment == null) {
+                worstAssessment =
+                        worst(
+                                worstAssessment,
+                                evaluateBatch(policyIdentifier, batch, findingConsumer));
+            }
+        } catch (IOException e) {
+            throw new ErrorWhileParsingStringToCBOM(e);
+        }
+
+        return new ComplianceResult(
+                complianceService.getName(),
+                policyIdentifier.id(),
+                List.of(),
+                complianceService.getComplianceLevels(),
+                complianceService.getDefaultComplianceLevel().id(),
+                complianceService.getDefaultAssessmentLevel(),
+                worstAssessment,
+                false);
+    }
+
+    @Nonnull
+    private AssessmentLevel evaluateBatch(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull List<CryptographicAsset> batch,
+            @Nonnull Consumer<ComplianceFinding> findingConsumer) {
+        final ComplianceCheckResultDTO result =
+                complianceService.evaluate(policyIdentifier, batch);
+        result.getPolicyResults()
+                .forEach(
+                        policyResult ->
+                                findingConsumer.accept(
+                                        new ComplianceFinding(
+                                                policyResult.identifier(),
+                                                policyResult.complianceLevel().id(),
+                                                policyResult.message())));
+        return result.getAssessmentLevel() == null
+                ? complianceService.getDefaultAssessmentLevel()
+                : result.getAssessmentLevel();
+    }
+
+    @Nonnull
+    private static AssessmentLevel worst(
+            @Nullable AssessmentLevel current,
+            @Nonnull AssessmentLevel candidate) {
+        if (current == null || candidate.getId() > current.getId()) {
+            return candidate;
+        }
+        return current;
+    }
+}
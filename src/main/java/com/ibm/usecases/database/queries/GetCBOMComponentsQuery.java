@@ -0,0 +1,56 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.database.queries;
+
+import app.bootstrap.core.cqrs.IQuery;
+import com.ibm.infrastructure.database.readmodels.CBOMComponentFilter;
+import com.ibm.infrastructure.database.readmodels.CBOMComponentPage;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Selects components of the latest CBOM of a project. {@code fields} restricts every returned
+ * component to the given fields, nested fields are separated by dots (e.g. {@code
+ * cryptoProperties.assetType}); all fields are returned if it is empty. Larger limits are lowered
+ * to {@link #MAX_LIMIT}.
+ */
+public record GetCBOMComponentsQuery(
+        @Nonnull String projectIdentifier,
+        @Nonnull CBOMComponentFilter filter,
+        @Nonnull List<String> fields,
+        @Nullable Integer offset,
+        @Nullable Integer limit)
+        implements IQuery<CBOMComponentPage> {
+    public static final int MAX_LIMIT = 1000;
+
+    @Override
+    @Nonnull
+    public Integer offset() {
+        return Optional.ofNullable(offset).orElse(0);
+    }
+
+    @Override
+    @Nonnull
+    public Integer limit() {
+        return Math.min(Optional.ofNullable(limit).orElse(100), MAX_LIMIT);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.database.queries;
+
+import app.bootstrap.core.cqrs.IQueryBus;
+import app.bootstrap.core.cqrs.QueryHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ibm.infrastructure.database.readmodels.CBOMComponentPage;
+import com.ibm.infrastructure.database.readmodels.CBOMSummary;
+import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
+import com.ibm.usecases.database.errors.NoCBOMForProjectIdentifierFound;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+import java.util.List;
+
+@Singleton
+public final class GetCBOMComponentsQueryHandler
+        extends QueryHandler<GetCBOMComponentsQuery, CBOMComponentPage> {
+
+    @Nonnull private final ICBOMReadRepository readRepository;
+
+    void onStart(@Observes StartupEvent event) {
+        this.queryBus.register(this, GetCBOMComponentsQuery.class);
+    }
+
+    public GetCBOMComponentsQueryHandler(
+            @Nonnull IQueryBus queryBus, @Nonnull ICBOMReadRepository readRepository) {
+        super(queryBus);
+        this.readRepository = readRepository;
+    }
+
+    @Override
+    public @Nonnull CBOMComponentPage handle(
+            @Nonnull GetCBOMComponentsQuery getCBOMComponentsQuery) throws Exception {
+        final CBOMSummary summary =
+                this.readRepository
+                        .findSummaryBy(getCBOMComponentsQuery.projectIdentifier())
+                        .orElseThrow(
+                                () ->
+                                        new NoCBOMForProjectIdentifierFound(
+                                                getCBOMComponentsQuery.projectIdentifier()));
+        final int offset = getCBOMComponentsQuery.offset();
+        final int limit = getCBOMComponentsQuery.limit();
+        // fetch one more than requested to know whether there is a next page
+        final List<JsonNode> components =
+                this.readRepository.findComponents(
+                        summary.id(), getCBOMComponentsQuery.filter(), offset, limit + 1);
+        final List<JsonNode> page =
+                components.stream()
+                        .limit(limit)
+                        .map(component -> project(component, getCBOMComponentsQuery.fields()))
+                        .toList();
+        return new CBOMComponentPage(
+                summary, page, components.size() > limit ? offset + limit : null);
+    }
+
+    @Nonnull
+    private static JsonNode project(@Nonnull JsonNode component, @Nonnull List<String> fields) {
+        if (fields.isEmpty()) {
+            return component;
+        }
+        final ObjectNode projected = JsonNodeFactory.instance.objectNode();
+        for (final String field : fields) {
+            final String[] path = field.split("\\.");
+            JsonNode value = component;
+            for (int i = 0; i < path.length && value != null; i++) {
+                value = value.get(path[i]);
+            }
+            if (value == null) {
+                continue;
+            }
+            ObjectNode target = projected;
+            for (int i = 0; i < path.length - 1; i++) {
+                target =
+                        target.get(path[i]) instanceof ObjectNode nested
+                                ? nested
+                                : target.putObject(path[i]);
+            }
+            target.set(path[path.length - 1], value);
+        }
+        return projected;
+    }
+}
@@ -20,18 +20,24 @@
 package com.ibm.usecases.database.queries;
 
 import app.bootstrap.core.cqrs.IQuery;
-import com.ibm.infrastructure.database.readmodels.CBOMReadModel;
+import com.ibm.infrastructure.database.readmodels.CBOMCursor;
+import com.ibm.infrastructure.database.readmodels.CBOMSummaryPage;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
-import java.util.Collection;
 import java.util.Optional;
 
-public record ListStoredCBOMsQuery(@Nullable Integer limit)
-        implements IQuery<Collection<CBOMReadModel>> {
+/** Lists stored CBOMs, most recent first. Larger limits are lowered to {@link #MAX_LIMIT}. */
+public record ListStoredCBOMsQuery(@Nullable Integer limit, @Nullable CBOMCursor after)
+        implements IQuery<CBOMSummaryPage> {
+    public static final int MAX_LIMIT = 1000;
+
+    public ListStoredCBOMsQuery(@Nullable Integer limit) {
+        this(limit, null);
+    }
 
     @Override
     @Nonnull
     public Integer limit() {
-        return Optional.ofNullable(limit).orElse(5);
+        return Math.min(Optional.ofNullable(limit).orElse(5), MAX_LIMIT);
     }
 }
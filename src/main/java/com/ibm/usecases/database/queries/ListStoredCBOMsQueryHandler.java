@@ -21,17 +21,19 @@ package com.ibm.usecases.database.queries;
 
 import app.bootstrap.core.cqrs.IQueryBus;
 import app.bootstrap.core.cqrs.QueryHandler;
-import com.ibm.infrastructure.database.readmodels.CBOMReadModel;
+import com.ibm.infrastructure.database.readmodels.CBOMCursor;
+import com.ibm.infrastructure.database.readmodels.CBOMSummary;
+import com.ibm.infrastructure.database.readmodels.CBOMSummaryPage;
 import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
 import io.quarkus.runtime.StartupEvent;
 import jakarta.annotation.Nonnull;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
-import java.util.Collection;
+import java.util.List;
 
 @Singleton
 public final class ListStoredCBOMsQueryHandler
-        extends QueryHandler<ListStoredCBOMsQuery, Collection<CBOMReadModel>> {
+        extends QueryHandler<ListStoredCBOMsQuery, CBOMSummaryPage> {
 
     @Nonnull private final ICBOMReadRepository readRepository;
 
@@ -46,8 +48,16 @@ public final class ListStoredCBOMsQueryHandler
     }
 
     @Override
-    public @Nonnull Collection<CBOMReadModel> handle(
-            @Nonnull ListStoredCBOMsQuery listStoredCBOMsQuery) throws Exception {
-        return this.readRepository.getRecent(listStoredCBOMsQuery.limit());
+    public @Nonnull CBOMSummaryPage handle(@Nonnull ListStoredCBOMsQuery listStoredCBOMsQuery)
+            throws Exception {
+        final int limit = listStoredCBOMsQuery.limit();
+        // fetch one more than requested to know whether there is a next page
+        final List<CBOMSummary> summaries =
+                this.readRepository.getSummaries(listStoredCBOMsQuery.after(), limit + 1);
+        if (summaries.size() <= limit) {
+            return new CBOMSummaryPage(summaries, null);
+        }
+        final List<CBOMSummary> page = summaries.subList(0, limit);
+        return new CBOMSummaryPage(page, CBOMCursor.of(page.get(limit - 1)).encode());
     }
 }
@@ -0,0 +1,161 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.processmanager;
+
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
+import com.ibm.domain.scanning.ScanAggregate;
+import com.ibm.domain.scanning.authentication.ICredentials;
+import com.ibm.infrastructure.progress.IProgressDispatcher;
+import com.ibm.infrastructure.progress.ProgressBroadcast;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The scans that are currently running, by what they scan. A request for a scan that is already
+ * running does not clone and scan the repository a second time; its client is attached to the
+ * progress of the running scan instead and receives the same result.
+ */
+@Singleton
+public final class InFlightScans {
+
+    /**
+     * What makes two scan requests the same scan. The credentials are part of it, so that a client
+     * never receives the result of a scan it could not have run itself.
+     */
+    public record ScanKey(
+            @Nonnull String scanUrl,
+            @Nonnull String revision,
+            @Nullable String packageFolder,
+            @Nullable ICredentials credentials,
+            boolean streamDetections) {
+
+        @Nonnull
+        public static ScanKey of(
+                @Nonnull String scanUrl,
+                @Nullable String revision,
+                @Nullable String packageFolder,
+                @Nullable ICredentials credentials,
+                boolean streamDetections) {
+            return new ScanKey(
+                    normalize(scanUrl),
+                    Optional.ofNullable(revision)
+                            .map(String::trim)
+                            .filter(r -> !r.isEmpty())
+                            .orElse(ScanAggregate.REVISION_MAIN.value()),
+                    Optional.ofNullable(packageFolder)
+                            .map(folder -> folder.trim().replaceAll("^/+|/+$", ""))
+                            .filter(folder -> !folder.isEmpty())
+                            .orElse(null),
+                    credentials,
+                    streamDetections);
+        }
+
+        @Nonnull
+        private static String normalize(@Nonnull String scanUrl) {
+            final String url = scanUrl.trim();
+            if (url.startsWith("pkg:")) {
+                try {
+                    return new PackageURL(url).canonicalize();
+                } catch (MalformedPackageURLException e) {
+                    return url;
+                }
+            }
+            return url.replaceAll("/+$", "").replaceAll("\\.git$", "");
+        }
+    }
+
+    /** Runs a scan to its end, sending its progress to the broadcast. */
+    @FunctionalInterface
+    public interface Scan {
+        void run(@Nonnull ProgressBroadcast progressBroadcast) throws Exception;
+    }
+
+    @Nonnull private final Map<ScanKey, ProgressBroadcast> scans;
+    @Nonnull private final Counter coalesced;
+
+    public InFlightScans(@Nonnull MeterRegistry meterRegistry) {
+        this.scans = new ConcurrentHashMap<>();
+        this.coalesced =
+                Counter.builder("cbomkit.scans.coalesced")
+                        .description("Scan requests attached to an identical running scan")
+                        .register(meterRegistry);
+        Gauge.builder("cbomkit.scans.inflight", this.scans, Map::size)
+                .description("Distinct scans currently running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the scan, unless a scan with the same key is running; then the client is attached to
+     * that one instead. The broadcast is closed once the scan returns, also when it fails, so that
+     * a scan that fails before it starts is not joined by later requests.
+     *
+     * @return false if the client was attached to a running scan
+     */
+    public boolean runOrAttach(
+            @Nonnull ScanKey key, @Nonnull IProgressDispatcher client, @Nonnull Scan scan)
+            throws Exception {
+        final Optional<ProgressBroadcast> leader = this.attachOrLead(key, client);
+        if (leader.isEmpty()) {
+            return false;
+        }
+        try {
+            scan.run(leader.get());
+        } finally {
+            leader.get().close();
+        }
+        return true;
+    }
+
+    /**
+     * Attaches the client to the running scan with the same key, if there is one.
+     *
+     * @return empty if the client was attached to a running scan, otherwise the progress
+     *     dispatcher the caller has to start the scan with. It is closed when the scan ends.
+     */
+    @Nonnull
+    Optional<ProgressBroadcast> attachOrLead(
+            @Nonnull ScanKey key, @Nonnull IProgressDispatcher client) {
+        while (true) {
+            final ProgressBroadcast running = this.scans.get(key);
+            if (running != null) {
+                if (running.attach(client)) {
+                    this.coalesced.increment();
+                    return Optional.empty();
+                }
+                // ended between the lookup and the attach
+                this.scans.remove(key, running);
+                continue;
+            }
+            final ProgressBroadcast broadcast =
+                    new ProgressBroadcast(client, ended -> this.scans.remove(key, ended));
+            if (this.scans.putIfAbsent(key, broadcast) == null) {
+                return Optional.of(broadcast);
+            }
+        }
+    }
+}
@@ -23,23 +23,34 @@ import app.bootstrap.core.cqrs.ICommand;
 import app.bootstrap.core.cqrs.ICommandBus;
 import app.bootstrap.core.cqrs.ProcessManager;
 import app.bootstrap.core.ddd.IRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.packageurl.PackageURL;
 import com.ibm.domain.scanning.CBOM;
 import com.ibm.domain.scanning.Commit;
 import com.ibm.domain.scanning.GitUrl;
 import com.ibm.domain.scanning.Language;
 import com.ibm.domain.scanning.LanguageScan;
+import com.ibm.domain.scanning.Revision;
 import com.ibm.domain.scanning.ScanAggregate;
 import com.ibm.domain.scanning.ScanId;
 import com.ibm.domain.scanning.ScanMetadata;
+import com.ibm.domain.scanning.ScanStage;
+import com.ibm.domain.scanning.StageTiming;
 import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
 import com.ibm.domain.scanning.errors.ScanResultForLanguageAlreadyExists;
+import com.ibm.infrastructure.database.readmodels.CBOMReadModel;
+import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
 import com.ibm.infrastructure.errors.ClientDisconnected;
 import com.ibm.infrastructure.errors.EntityNotFoundById;
 import com.ibm.infrastructure.progress.IProgressDispatcher;
+import com.ibm.infrastructure.progress.ProgressBroadcast;
 import com.ibm.infrastructure.progress.ProgressMessage;
 import com.ibm.infrastructure.progress.ProgressMessageType;
 import com.ibm.infrastructure.scanning.IScanConfiguration;
+import com.ibm.infrastructure.scanning.PrefilterMode;
+import com.ibm.infrastructure.scanning.ScanTimeline;
+import com.ibm.infrastructure.scanning.repositories.IStageTimingRepository;
 import com.ibm.usecases.scanning.commands.CloneGitRepositoryCommand;
 import com.ibm.usecases.scanning.commands.IdentifyPackageFolderCommand;
 import com.ibm.usecases.scanning.commands.IndexModulesCommand;
@@ -53,21 +64,17 @@ import com.ibm.usecases.scanning.errors.NoGitUrlSpecifiedForScan;
 import com.ibm.usecases.scanning.errors.NoIndexForProject;
 import com.ibm.usecases.scanning.errors.NoProjectDirectoryProvided;
 import com.ibm.usecases.scanning.errors.NoPurlSpecifiedForScan;
+import com.ibm.usecases.scanning.errors.ScanWorkerFailed;
 import com.ibm.usecases.scanning.services.git.CloneResultDTO;
 import com.ibm.usecases.scanning.services.git.GitService;
-import com.ibm.usecases.scanning.services.indexing.IBuildType;
-import com.ibm.usecases.scanning.services.indexing.JavaIndexService;
-import com.ibm.usecases.scanning.services.indexing.ProjectModule;
-import com.ibm.usecases.scanning.services.indexing.PythonIndexService;
+import com.ibm.usecases.scanning.services.git.IGitBackend;
+import com.ibm.usecases.scanning.services.git.RemoteRevisionDTO;
 import com.ibm.usecases.scanning.services.pkg.MavenPackageFinderService;
 import com.ibm.usecases.scanning.services.pkg.SetupPackageFinderService;
 import com.ibm.usecases.scanning.services.pkg.TomlPackageFinderService;
-import com.ibm.usecases.scanning.services.resolve.DepsDevService;
 import com.ibm.usecases.scanning.services.resolve.GithubPurlResolver;
 import com.ibm.usecases.scanning.services.resolve.PurlResolver;
 import com.ibm.usecases.scanning.services.scan.ScanResultDTO;
-import com.ibm.usecases.scanning.services.scan.java.JavaScannerService;
-import com.ibm.usecases.scanning.services.scan.python.PythonScannerService;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.io.File;
@@ -75,40 +82,80 @@ import java.nio.file.Path;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggregate> {
     private static final Logger LOGGER = LoggerFactory.getLogger(ScanProcessManager.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Revision REVISION_MASTER = new Revision("master");
 
     @Nonnull private final ScanId scanId;
+    @Nonnull private final ICBOMReadRepository cbomReadRepository;
     @Nonnull private final IProgressDispatcher progressDispatcher;
     @Nonnull private final String baseCloneDirPath;
+    @Nonnull private final Map<String, String> cloneUrlRewrites;
+    @Nonnull private final IGitBackend gitBackend;
     @Nonnull private final String javaDependencyJARSPath;
+    @Nonnull private final PurlResolver purlResolver;
+    private final boolean streamDetections;
+    @Nonnull private final PrefilterMode prefilterMode;
+    @Nullable private final ScanWorkerPool scanWorkerPool;
 
     @Nullable private File projectDirectory;
-    @Nonnull private final Map<Language, List<ProjectModule>> index;
-    @Nonnull private final Map<Language, IBuildType> buildTypes;
+    @Nullable private SourceScanner sourceScanner;
+    private volatile boolean released;
+    @Nonnull private final List<StageTiming> stageTimings;
 
     public ScanProcessManager(
             @Nonnull ScanId scanId,
             @Nonnull ICommandBus commandBus,
             @Nonnull IRepository<ScanId, ScanAggregate> repository,
+            @Nonnull ICBOMReadRepository cbomReadRepository,
             @Nonnull IProgressDispatcher progressDispatcher,
-            @Nonnull IScanConfiguration iScanConfiguration) {
+            @Nonnull IScanConfiguration iScanConfiguration,
+            @Nonnull PurlResolver purlResolver,
+            boolean streamDetections,
+            @Nullable ScanWorkerPool scanWorkerPool) {
         super(commandBus, repository);
         this.scanId = scanId;
+        this.cbomReadRepository = cbomReadRepository;
         this.progressDispatcher = progressDispatcher;
         this.baseCloneDirPath = iScanConfiguration.getBaseCloneDirPath();
+        this.cloneUrlRewrites = iScanConfiguration.getCloneUrlRewrites();
+        this.gitBackend = IGitBackend.of(iScanConfiguration.getGitBackend());
         this.javaDependencyJARSPath = iScanConfiguration.getJavaDependencyJARSPath();
-        this.index = new EnumMap<>(Language.class);
-        this.buildTypes = new EnumMap<>(Language.class);
+        this.purlResolver = purlResolver;
+        this.streamDetections = streamDetections;
+        this.prefilterMode = iScanConfiguration.getPrefilterMode();
+        this.scanWorkerPool = scanWorkerPool;
+        this.stageTimings = new CopyOnWriteArrayList<>();
     }
 
     @Override
     public void handle(@Nonnull ICommand command) throws Exception {
+        try {
+            this.dispatch(command);
+        } catch (Exception e) {
+            // handlers report and compensate their own failures, except those before their try
+            if (!this.released) {
+                try {
+                    this.progressDispatcher.send(
+                            new ProgressMessage(ProgressMessageType.ERROR, e.getMessage()));
+                } catch (ClientDisconnected ignored) {
+                    // released below anyway
+                }
+                this.compensate(this.scanId);
+            }
+            throw e;
+        }
+    }
+
+    private void dispatch(@Nonnull ICommand command) throws Exception {
         switch (command) {
             case ResolvePurlCommand resolvePurlCommand ->
                     this.handleResolvePurlCommand(resolvePurlCommand);
@@ -136,10 +183,11 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
                 scanAggregate.getPurl().orElseThrow(() -> new NoPurlSpecifiedForScan(scanId));
 
         try {
+            final StageTimer timer = StageTimer.start(ScanStage.PURL_RESOLUTION);
             final PurlResolver resolver =
                     purl.getType().equals(PackageURL.StandardTypes.GITHUB)
                             ? new GithubPurlResolver()
-                            : new DepsDevService();
+                            : this.purlResolver;
             final GitUrl gitUrl = resolver.resolve(purl);
 
             // update aggregate
@@ -156,6 +204,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
             }
 
             this.repository.save(scanAggregate);
+            this.stageTimings.add(timer.stop());
 
             this.commandBus.send(
                     new CloneGitRepositoryCommand(command.id(), command.credentials()));
@@ -185,16 +234,54 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
             this.progressDispatcher.send(
                     new ProgressMessage(
                             ProgressMessageType.BRANCH, scanAggregate.getRevision().value()));
-
-            // clone git repository
             final GitService gitService =
                     new GitService(
-                            this.progressDispatcher, this.baseCloneDirPath, command.credentials());
+                            this.progressDispatcher,
+                            this.baseCloneDirPath,
+                            command.credentials(),
+                            this.cloneUrlRewrites,
+                            this.gitBackend);
+
+            // resolve the revision on the remote first, so that neither a missing branch nor a
+            // commit that was scanned before costs a clone
+            if (scanAggregate.getCommit().isEmpty()) {
+                final Optional<RemoteRevisionDTO> remoteRevision =
+                        this.resolveRemoteRevision(gitService, gitUrl, scanAggregate.getRevision());
+                if (remoteRevision.isPresent()) {
+                    final Commit commit = remoteRevision.get().commit();
+                    if (commit == null
+                            && scanAggregate.getRevision().equals(ScanAggregate.REVISION_MAIN)) {
+                        this.requestScanOf(
+                                Optional.ofNullable(remoteRevision.get().defaultBranch())
+                                        .orElse(REVISION_MASTER),
+                                scanAggregate,
+                                gitUrl,
+                                command);
+                        return;
+                    } else if (commit == null) {
+                        throw new GitCloneFailed(
+                                "Revision not found: " + scanAggregate.getRevision().value());
+                    }
+                    this.progressDispatcher.send(
+                            new ProgressMessage(ProgressMessageType.REVISION_HASH, commit.hash()));
+                    scanAggregate.setCommitHash(commit);
+                    this.repository.save(scanAggregate);
+                }
+            }
+            final Optional<Commit> knownCommit = scanAggregate.getCommit();
+            if (knownCommit.isPresent()
+                    && this.sendStoredCBOM(scanAggregate, gitUrl, knownCommit.get())) {
+                return;
+            }
+
+            // clone git repository, only the package folder if it is already known
+            final StageTimer timer = StageTimer.start(ScanStage.CLONE);
             final CloneResultDTO cloneResultDTO =
                     gitService.clone(
                             gitUrl,
                             scanAggregate.getRevision(),
-                            scanAggregate.getCommit().orElse(null));
+                            scanAggregate.getCommit().orElse(null),
+                            scanAggregate.getPackageFolder().orElse(null));
             this.projectDirectory = cloneResultDTO.directory();
             // update aggregate
             if (scanAggregate.getCommit().isEmpty()) {
@@ -204,21 +291,18 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
                 scanAggregate.setCommitHash(cloneResultDTO.commit());
             }
             this.repository.save(scanAggregate);
+            this.stageTimings.add(
+                    timer.stop(
+                            FileUtils.sizeOfDirectory(cloneResultDTO.directory()),
+                            null,
+                            null,
+                            null));
             // set subfolder
             this.commandBus.send(new IdentifyPackageFolderCommand(command.id()));
         } catch (GitCloneFailed gitCloneFailed) {
             // if previous attempted failed with `main`, try `master`
             if (scanAggregate.getRevision().equals(ScanAggregate.REVISION_MAIN)) {
-                // delete old aggregate
-                this.repository.delete(scanId);
-                // emit new scan command with `master` branch
-                this.commandBus.send(
-                        new RequestScanCommand(
-                                this.scanId,
-                                gitUrl.value(),
-                                "master",
-                                scanAggregate.getPackageFolder().map(Path::toString).orElse(null),
-                                command.credentials()));
+                this.requestScanOf(REVISION_MASTER, scanAggregate, gitUrl, command);
             } else {
                 this.progressDispatcher.send(
                         new ProgressMessage(
@@ -234,6 +318,81 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
         }
     }
 
+    /**
+     * Looks up the revision with an ls-remote. Empty if the remote could not be asked, then the
+     * revision is resolved from the clone as before.
+     */
+    @Nonnull
+    private Optional<RemoteRevisionDTO> resolveRemoteRevision(
+            @Nonnull GitService gitService, @Nonnull GitUrl gitUrl, @Nonnull Revision revision) {
+        final StageTimer timer = StageTimer.start(ScanStage.REF_RESOLUTION);
+        try {
+            return Optional.of(gitService.resolve(gitUrl, revision));
+        } catch (GitCloneFailed e) {
+            LOGGER.warn("Could not resolve {} of {}: {}", revision.value(), gitUrl.value(), e);
+            return Optional.empty();
+        } finally {
+            this.stageTimings.add(timer.stop());
+        }
+    }
+
+    /** Replaces this scan with a scan of another branch, e.g. if the repository has no `main`. */
+    private void requestScanOf(
+            @Nonnull Revision revision,
+            @Nonnull ScanAggregate scanAggregate,
+            @Nonnull GitUrl gitUrl,
+            @Nonnull CloneGitRepositoryCommand command) {
+        // delete old aggregate
+        this.repository.delete(scanId);
+        // emit new scan command with the other branch
+        this.commandBus.send(
+                new RequestScanCommand(
+                        this.scanId,
+                        gitUrl.value(),
+                        revision.value(),
+                        scanAggregate.getPackageFolder().map(Path::toString).orElse(null),
+                        command.credentials()));
+    }
+
+    /**
+     * Sends the stored CBOM instead of cloning and scanning the commit again, if it was scanned
+     * before. Only if the package folder is known before cloning, which is not the case for PURLs
+     * whose package folder is searched in the sources.
+     */
+    private boolean sendStoredCBOM(
+            @Nonnull ScanAggregate scanAggregate, @Nonnull GitUrl gitUrl, @Nonnull Commit commit)
+            throws ClientDisconnected {
+        final Optional<PackageURL> purl = scanAggregate.getPurl();
+        if (purl.isPresent() && !purl.get().getType().equals(PackageURL.StandardTypes.GITHUB)) {
+            return false;
+        }
+        final Path packageFolder = scanAggregate.getPackageFolder().orElse(null);
+        final Optional<CBOMReadModel> stored =
+                this.cbomReadRepository
+                        .findBy(gitUrl, commit, packageFolder)
+                        .filter(
+                                readModel ->
+                                        Objects.equals(
+                                                readModel.getPackageFolder(),
+                                                packageFolder == null
+                                                        ? null
+                                                        : packageFolder.toString()));
+        if (stored.isEmpty()) {
+            return false;
+        }
+        LOGGER.info(
+                "Commit {} of {} was scanned before, sending the stored CBOM",
+                commit.hash(),
+                gitUrl.value());
+        this.progressDispatcher.send(
+                new ProgressMessage(ProgressMessageType.CBOM, stored.get().getBom().toString()));
+        this.progressDispatcher.send(new ProgressMessage(ProgressMessageType.LABEL, "Finished"));
+        // nothing was scanned, so there is no scan to keep
+        this.repository.delete(this.scanId);
+        this.release();
+        return true;
+    }
+
     private void handleSetPackageFolderCommand(@Nonnull IdentifyPackageFolderCommand command)
             throws Exception {
         if (this.scanId != command.id()) {
@@ -241,6 +400,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
         }
 
         try {
+            final StageTimer timer = StageTimer.start(ScanStage.PACKAGE_FOLDER);
             final Optional<ScanAggregate> possibleScanAggregate =
                     this.repository.read(command.id());
             final ScanAggregate scanAggregate =
@@ -274,6 +434,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
                                     ProgressMessageType.FOLDER, packagePath.get().toString()));
                 }
             }
+            this.stageTimings.add(timer.stop());
             // start indexing
             this.commandBus.send(new IndexModulesCommand(command.id()));
         } catch (Exception e) {
@@ -297,24 +458,19 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
             final File projectDir =
                     Optional.ofNullable(this.projectDirectory)
                             .orElseThrow(GitCloneResultNotAvailable::new);
-            // java
-            final JavaIndexService javaIndexService =
-                    new JavaIndexService(this.progressDispatcher, projectDir);
-            final List<ProjectModule> javaIndex =
-                    javaIndexService.index(scanAggregate.getPackageFolder().orElse(null));
-            this.index.put(Language.JAVA, javaIndex);
-            javaIndexService
-                    .getMainBuildType()
-                    .ifPresent(buildType -> this.buildTypes.put(Language.JAVA, buildType));
-            // python
-            final PythonIndexService pythonIndexService =
-                    new PythonIndexService(this.progressDispatcher, projectDir);
-            final List<ProjectModule> pythonIndex =
-                    pythonIndexService.index(scanAggregate.getPackageFolder().orElse(null));
-            this.index.put(Language.PYTHON, pythonIndex);
-            pythonIndexService
-                    .getMainBuildType()
-                    .ifPresent(buildType -> this.buildTypes.put(Language.PYTHON, buildType));
+            // a scan worker indexes the sources itself, as part of the scan
+            if (this.scanWorkerPool == null) {
+                this.sourceScanner =
+                        new SourceScanner(
+                                this.scanId.getUuid().toString(),
+                                this.progressDispatcher,
+                                projectDir,
+                                this.javaDependencyJARSPath,
+                                this.streamDetections,
+                                this.prefilterMode,
+                                this.stageTimings);
+                this.sourceScanner.index(scanAggregate.getPackageFolder().orElse(null));
+            }
             // continue with scan
             this.commandBus.send(new ScanCommand(command.id()));
         } catch (Exception e) {
@@ -333,7 +489,9 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
                     ScanResultForLanguageAlreadyExists,
                     ClientDisconnected,
                     CBOMSerializationFailed,
-                    NoGitUrlSpecifiedForScan {
+                    NoGitUrlSpecifiedForScan,
+                    JsonProcessingException,
+                    ScanWorkerFailed {
         if (this.scanId != command.id()) {
             return;
         }
@@ -348,87 +506,72 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
                             .getGitUrl()
                             .orElseThrow(() -> new NoGitUrlSpecifiedForScan(scanId));
             final Commit commit = scanAggregate.getCommit().orElseThrow(NoCommitProvided::new);
+            final File projectDir =
+                    Optional.ofNullable(this.projectDirectory)
+                            .orElseThrow(NoProjectDirectoryProvided::new);
+            final Path packageFolder = scanAggregate.getPackageFolder().orElse(null);
 
             // progress scan statistics
             final long startTime = System.currentTimeMillis();
-            int numberOfScannedLine;
-            int numberOfScannedFiles;
+            int numberOfScannedLine = 0;
+            int numberOfScannedFiles = 0;
             CBOM cbom = null;
 
-            // java
-            final JavaScannerService javaScannerService =
-                    new JavaScannerService(
-                            this.progressDispatcher,
-                            this.javaDependencyJARSPath,
-                            Optional.ofNullable(this.projectDirectory)
-                                    .orElseThrow(NoProjectDirectoryProvided::new));
-            final ScanResultDTO javaScanResultDTO =
-                    javaScannerService.scan(
-                            gitUrl,
-                            scanAggregate.getRevision(),
-                            commit,
-                            scanAggregate.getPackageFolder().orElse(null),
-                            Optional.ofNullable(this.index.get(Language.JAVA))
-                                    .orElseThrow(NoIndexForProject::new));
-            // update statistics
-            numberOfScannedLine = javaScanResultDTO.numberOfScannedLine();
-            numberOfScannedFiles = javaScanResultDTO.numberOfScannedFiles();
-
-            if (javaScanResultDTO.cbom() != null) {
-                // update statistics
-                cbom = javaScanResultDTO.cbom();
-
-                scanAggregate.reportScanResults(
-                        new LanguageScan(
-                                Language.JAVA,
-                                new ScanMetadata(
-                                        javaScanResultDTO.startTime(),
-                                        javaScanResultDTO.endTime(),
-                                        javaScanResultDTO.numberOfScannedLine(),
-                                        javaScanResultDTO.numberOfScannedFiles()),
-                                javaScanResultDTO.cbom()));
+            final Map<Language, ScanResultDTO> scanResults;
+            if (this.scanWorkerPool == null) {
+                scanResults =
+                        this.scanInProcess(
+                                gitUrl, scanAggregate.getRevision(), commit, packageFolder);
+            } else {
+                scanResults =
+                        this.scanInWorker(
+                                this.scanWorkerPool,
+                                projectDir,
+                                gitUrl,
+                                scanAggregate.getRevision(),
+                                commit,
+                                packageFolder);
             }
-
-            // python
-            final PythonScannerService pythonScannerService =
-                    new PythonScannerService(
-                            this.progressDispatcher,
-                            Optional.ofNullable(this.projectDirectory)
-                                    .orElseThrow(NoProjectDirectoryProvided::new));
-            final ScanResultDTO pythonScanResultDTO =
-                    pythonScannerService.scan(
-                            gitUrl,
-                            scanAggregate.getRevision(),
-                            commit,
-                            scanAggregate.getPackageFolder().orElse(null),
-                            Optional.ofNullable(this.index.get(Language.PYTHON))
-                                    .orElseThrow(NoIndexForProject::new));
-            // update statistics
-            numberOfScannedLine += pythonScanResultDTO.numberOfScannedLine();
-            numberOfScannedFiles += pythonScanResultDTO.numberOfScannedFiles();
-
-            if (pythonScanResultDTO.cbom() != null) {
+            for (Map.Entry<Language, ScanResultDTO> entry : scanResults.entrySet()) {
+                final ScanResultDTO scanResultDTO = entry.getValue();
                 // update statistics
-                if (cbom != null) {
-                    cbom.merge(pythonScanResultDTO.cbom());
+                numberOfScannedLine += scanResultDTO.numberOfScannedLine();
+                numberOfScannedFiles += scanResultDTO.numberOfScannedFiles();
+                if (scanResultDTO.cbom() == null) {
+                    continue;
+                }
+                if (cbom == null) {
+                    cbom = scanResultDTO.cbom();
                 } else {
-                    cbom = pythonScanResultDTO.cbom();
+                    final StageTimer mergeTimer = StageTimer.start(ScanStage.CBOM_MERGE);
+                    cbom.merge(scanResultDTO.cbom());
+                    this.stageTimings.add(mergeTimer.stop());
                 }
-
                 scanAggregate.reportScanResults(
                         new LanguageScan(
-                                Language.PYTHON,
+                                entry.getKey(),
                                 new ScanMetadata(
-                                        pythonScanResultDTO.startTime(),
-                                        pythonScanResultDTO.endTime(),
-                                        pythonScanResultDTO.numberOfScannedLine(),
-                                        pythonScanResultDTO.numberOfScannedFiles()),
-                                pythonScanResultDTO.cbom()));
+                                        scanResultDTO.startTime(),
+                                        scanResultDTO.endTime(),
+                                        scanResultDTO.numberOfScannedLine(),
+                                        scanResultDTO.numberOfScannedFiles()),
+                                scanResultDTO.cbom()));
             }
 
             // publish scan finished and save state
+            final StageTimer persistenceTimer = StageTimer.start(ScanStage.PERSISTENCE);
             scanAggregate.scanFinished();
             this.repository.save(scanAggregate);
+            this.stageTimings.add(persistenceTimer.stop());
+            final ScanTimeline timeline = ScanTimeline.of(this.scanId.getUuid(), this.stageTimings);
+            if (this.repository instanceof IStageTimingRepository stageTimingRepository) {
+                stageTimingRepository.saveStageTimings(this.scanId, timeline.stages());
+            }
+            LOGGER.info(
+                    "Scan {} took {} ms: {}",
+                    this.scanId.getUuid(),
+                    timeline.totalWallTimeMillis(),
+                    timeline.stages());
 
             this.progressDispatcher.send(
                     new ProgressMessage(
@@ -449,8 +592,13 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
                                     .orElseThrow(CBOMSerializationFailed::new)
                                     .toJSON()
                                     .toString()));
+            this.progressDispatcher.send(
+                    new ProgressMessage(
+                            ProgressMessageType.SCAN_TIMELINE,
+                            OBJECT_MAPPER.writeValueAsString(timeline)));
             this.progressDispatcher.send(
                     new ProgressMessage(ProgressMessageType.LABEL, "Finished"));
+            this.release();
         } catch (Exception | NoSuchMethodError e) { // catch NoSuchMethodError: see issue #138
             this.progressDispatcher.send(
                     new ProgressMessage(ProgressMessageType.ERROR, e.getMessage()));
@@ -459,10 +607,70 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
         }
     }
 
+    /** Scans the sources indexed by {@link #handleIndexModulesCommand}, language by language. */
+    @Nonnull
+    private Map<Language, ScanResultDTO> scanInProcess(
+            @Nonnull GitUrl gitUrl,
+            @Nonnull Revision revision,
+            @Nonnull Commit commit,
+            @Nullable Path packageFolder)
+            throws NoIndexForProject, ClientDisconnected {
+        final SourceScanner scanner =
+                Optional.ofNullable(this.sourceScanner).orElseThrow(NoIndexForProject::new);
+        final Map<Language, ScanResultDTO> scanResults = new EnumMap<>(Language.class);
+        for (Language language : Language.values()) {
+            scanResults.put(
+                    language, scanner.scan(language, gitUrl, revision, commit, packageFolder));
+        }
+        return scanResults;
+    }
+
+    /** Indexes and scans the sources in a worker process. */
+    @Nonnull
+    private Map<Language, ScanResultDTO> scanInWorker(
+            @Nonnull ScanWorkerPool pool,
+            @Nonnull File projectDir,
+            @Nonnull GitUrl gitUrl,
+            @Nonnull Revision revision,
+            @Nonnull Commit commit,
+            @Nullable Path packageFolder)
+            throws ScanWorkerFailed, ClientDisconnected, CBOMSerializationFailed {
+        final ScanWorkerProtocol.Result result =
+                pool.scan(
+                        new ScanWorkerProtocol.Request(
+                                this.scanId.getUuid().toString(),
+                                projectDir.getAbsolutePath(),
+                                packageFolder == null ? null : packageFolder.toString(),
+                                gitUrl.value(),
+                                revision.value(),
+                                commit.hash(),
+                                this.javaDependencyJARSPath,
+                                this.streamDetections,
+                                this.prefilterMode),
+                        this.progressDispatcher);
+        this.stageTimings.addAll(result.stageTimings());
+        final Map<Language, ScanResultDTO> scanResults = new EnumMap<>(Language.class);
+        for (ScanWorkerProtocol.LanguageResult languageResult : result.languages()) {
+            scanResults.put(languageResult.language(), languageResult.toScanResultDTO());
+        }
+        return scanResults;
+    }
+
     @Override
     public void compensate(@Nonnull ScanId id) {
+        this.release();
+    }
+
+    /**
+     * Ends the scan, successful or not. Otherwise the process manager would stay registered on the
+     * command bus, receive every later command and keep the sources of the scanned files.
+     */
+    private void release() {
+        this.released = true;
         // unregister process manager
         this.commandBus.remove(this);
+        Optional.ofNullable(this.sourceScanner).ifPresent(SourceScanner::release);
+        this.sourceScanner = null;
         // remove cloned repo
         Optional.ofNullable(this.projectDirectory)
                 .ifPresent(
@@ -473,5 +681,10 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
                                 // ignore
                             }
                         });
+        this.projectDirectory = null;
+        // let identical requests arriving from now on start a scan of their own
+        if (this.progressDispatcher instanceof ProgressBroadcast broadcast) {
+            broadcast.close();
+        }
     }
 }
@@ -0,0 +1,132 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.processmanager;
+
+import static com.ibm.usecases.scanning.processmanager.ScanWorkerProtocol.MAPPER;
+
+import com.ibm.domain.scanning.Commit;
+import com.ibm.domain.scanning.GitUrl;
+import com.ibm.domain.scanning.Language;
+import com.ibm.domain.scanning.Revision;
+import com.ibm.domain.scanning.StageTiming;
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.infrastructure.progress.ProgressMessage;
+import com.ibm.usecases.scanning.processmanager.ScanWorkerProtocol.LanguageResult;
+import com.ibm.usecases.scanning.processmanager.ScanWorkerProtocol.Message;
+import com.ibm.usecases.scanning.processmanager.ScanWorkerProtocol.Request;
+import com.ibm.usecases.scanning.processmanager.ScanWorkerProtocol.Result;
+import jakarta.annotation.Nonnull;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Main class of a scan worker process, started by {@link ScanWorkerPool}. Reads one scan request
+ * per line from standard input and answers with the progress messages and the result of the scan
+ * on standard output. Everything else that is printed, like logs, goes to standard error.
+ */
+public final class ScanWorker {
+    @Nonnull private final BufferedWriter output;
+
+    private ScanWorker(@Nonnull BufferedWriter output) {
+        this.output = output;
+    }
+
+    public static void main(String[] args) throws IOException {
+        final BufferedWriter output =
+                new BufferedWriter(
+                        new OutputStreamWriter(
+                                new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8));
+        System.setOut(System.err);
+        final Logger logger = LoggerFactory.getLogger(ScanWorker.class);
+        final ScanWorker worker = new ScanWorker(output);
+        final BufferedReader input =
+                new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        final long pid = ProcessHandle.current().pid();
+        logger.info("Scan worker {} ready", pid);
+        for (String line = input.readLine(); line != null; line = input.readLine()) {
+            final Request request = MAPPER.readValue(line, Request.class);
+            logger.info("Scan worker {} starts scan {}", pid, request.scanId());
+            worker.scan(request);
+        }
+    }
+
+    private void scan(@Nonnull Request request) throws IOException {
+        final List<StageTiming> stageTimings = new ArrayList<>();
+        final SourceScanner sourceScanner =
+                new SourceScanner(
+                        request.scanId(),
+                        this::sendProgress,
+                        new File(request.projectDirectory()),
+                        request.javaDependencyJARSPath(),
+                        request.streamDetections(),
+                        request.prefilterMode(),
+                        stageTimings);
+        try {
+            final Path packageFolder =
+                    Optional.ofNullable(request.packageFolder()).map(Path::of).orElse(null);
+            sourceScanner.index(packageFolder);
+            final List<LanguageResult> languages = new ArrayList<>();
+            for (Language language : Language.values()) {
+                languages.add(
+                        LanguageResult.of(
+                                language,
+                                sourceScanner.scan(
+                                        language,
+                                        new GitUrl(request.gitUrl()),
+                                        new Revision(request.revision()),
+                                        new Commit(request.commit()),
+                                        packageFolder)));
+            }
+            this.write(new Message(null, new Result(languages, stageTimings), null));
+        } catch (Exception | NoSuchMethodError e) { // catch NoSuchMethodError: see issue #138
+            this.write(new Message(null, null, String.valueOf(e.getMessage())));
+        } finally {
+            sourceScanner.release();
+        }
+    }
+
+    private void sendProgress(@Nonnull ProgressMessage progressMessage) throws ClientDisconnected {
+        try {
+            this.write(new Message(progressMessage, null, null));
+        } catch (IOException e) {
+            throw new ClientDisconnected(e.getMessage());
+        }
+    }
+
+    // detections are sent from the emitter thread, while the scan sends its labels
+    private synchronized void write(@Nonnull Message message) throws IOException {
+        this.output.write(MAPPER.writeValueAsString(message));
+        this.output.newLine();
+        this.output.flush();
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.processmanager;
+
+import static com.ibm.usecases.scanning.processmanager.ScanWorkerProtocol.MAPPER;
+
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.infrastructure.progress.IProgressDispatcher;
+import com.ibm.infrastructure.progress.ProgressMessage;
+import com.ibm.infrastructure.progress.ProgressMessageType;
+import com.ibm.infrastructure.scanning.IScanConfiguration;
+import com.ibm.usecases.scanning.errors.ScanWorkerFailed;
+import com.ibm.usecases.scanning.processmanager.ScanWorkerProtocol.Message;
+import com.ibm.usecases.scanning.processmanager.ScanWorkerProtocol.Request;
+import com.ibm.usecases.scanning.processmanager.ScanWorkerProtocol.Result;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pre-started {@link ScanWorker} processes that scans can run in, so that a scan running out of
+ * memory does not take down the service and the other scans. Each worker runs one scan at a time
+ * with its own maximum heap. A worker that dies is replaced, and the scan is retried once. Workers
+ * that could not be started are started again by later scans, with an increasing delay between
+ * attempts.
+ */
+@Singleton
+public final class ScanWorkerPool {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScanWorkerPool.class);
+    private static final int MAX_ATTEMPTS = 2;
+    private static final Duration MIN_START_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_START_BACKOFF = Duration.ofMinutes(1);
+    private static final Duration IDLE_WAIT = Duration.ofSeconds(1);
+
+    private final int size;
+    @Nonnull private final IScanConfiguration configuration;
+    @Nonnull private final BlockingQueue<WorkerProcess> idleWorkers;
+    @Nonnull private final Set<WorkerProcess> liveWorkers;
+    // guarded by this
+    @Nonnull private Duration startBackoff = MIN_START_BACKOFF;
+    private long nextStartNanos;
+    private boolean stopped;
+
+    public ScanWorkerPool(@Nonnull IScanConfiguration configuration) {
+        this.size = configuration.getScanWorkers();
+        this.configuration = configuration;
+        this.idleWorkers = new LinkedBlockingQueue<>();
+        this.liveWorkers = ConcurrentHashMap.newKeySet();
+        this.nextStartNanos = System.nanoTime();
+    }
+
+    void onStart(@Observes StartupEvent event) {
+        this.replenish();
+    }
+
+    synchronized void onStop(@Observes ShutdownEvent event) {
+        // no worker is started after this, see replenish
+        this.stopped = true;
+        // busy workers as well, their scans are not finished anymore
+        this.liveWorkers.forEach(WorkerProcess::destroy);
+    }
+
+    public boolean isEnabled() {
+        return this.size > 0;
+    }
+
+    /**
+     * Runs a scan in the next idle worker and relays its progress messages. Waits if all workers
+     * are busy, and fails if none is left.
+     */
+    @Nonnull
+    Result scan(@Nonnull Request request, @Nonnull IProgressDispatcher progressDispatcher)
+            throws ScanWorkerFailed, ClientDisconnected {
+        for (int attempt = 1; ; attempt++) {
+            final WorkerProcess worker = this.nextIdleWorker();
+            boolean reusable = false;
+            try {
+                final Message message = worker.scan(request, progressDispatcher);
+                reusable = true;
+                if (message.result() == null) {
+                    throw new ScanWorkerFailed(String.valueOf(message.failure()));
+                }
+                return message.result();
+            } catch (IOException e) {
+                LOGGER.warn(
+                        "Scan worker {} failed in scan {} (attempt {}): {}",
+                        worker.pid(),
+                        request.scanId(),
+                        attempt,
+                        e.getMessage());
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw new ScanWorkerFailed("Scan worker failed: " + e.getMessage());
+                }
+                progressDispatcher.send(
+                        new ProgressMessage(
+                                ProgressMessageType.WARNING,
+                                "Scan worker failed, retrying the scan"));
+            } finally {
+                if (reusable) {
+                    this.idleWorkers.add(worker);
+                } else {
+                    // crashed, or still busy with the scan of a disconnected client
+                    worker.destroy();
+                    this.liveWorkers.remove(worker);
+                    this.replenish();
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for an idle worker. The pool is checked again while waiting, since the busy workers may
+     * die and their replacements may fail to start.
+     */
+    @Nonnull
+    private WorkerProcess nextIdleWorker() throws ScanWorkerFailed {
+        while (true) {
+            this.replenish();
+            if (this.liveWorkers.isEmpty()) {
+                throw new ScanWorkerFailed("No scan worker available");
+            }
+            try {
+                final WorkerProcess worker =
+                        this.idleWorkers.poll(IDLE_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+                if (worker != null) {
+                    return worker;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ScanWorkerFailed("Interrupted while waiting for a scan worker");
+            }
+        }
+    }
+
+    /**
+     * Starts workers until the pool has its size again. After a worker failed to start, no further
+     * attempt is made until the backoff has passed.
+     */
+    private synchronized void replenish() {
+        if (this.stopped
+                || this.liveWorkers.size() >= this.size
+                || System.nanoTime() - this.nextStartNanos < 0) {
+            return;
+        }
+        while (this.liveWorkers.size() < this.size) {
+            if (!this.startWorker()) {
+                this.nextStartNanos = System.nanoTime() + this.startBackoff.toNanos();
+                final Duration doubled = this.startBackoff.multipliedBy(2);
+                this.startBackoff =
+                        doubled.compareTo(MAX_START_BACKOFF) < 0 ? doubled : MAX_START_BACKOFF;
+                return;
+            }
+        }
+        this.startBackoff = MIN_START_BACKOFF;
+    }
+
+    private boolean startWorker() {
+        try {
+            final String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+            final Process process =
+                    new ProcessBuilder(
+                                    java,
+                                    "-Xmx" + this.configuration.getScanWorkerMaxHeap(),
+                                    "-XX:+ExitOnOutOfMemoryError",
+                                    "-Djava.util.logging.manager=org.jboss.logmanager.LogManager",
+                                    "-cp",
+                                    this.classpath(),
+                                    ScanWorker.class.getName())
+                            .redirectError(ProcessBuilder.Redirect.INHERIT)
+                            .start();
+            final WorkerProcess worker = new WorkerProcess(process);
+            this.liveWorkers.add(worker);
+            this.idleWorkers.add(worker);
+            LOGGER.info("Started scan worker {}", process.pid());
+            return true;
+        } catch (IOException e) {
+            LOGGER.error(
+                    "Could not start scan worker, retrying in {}: {}",
+                    this.startBackoff,
+                    e.getMessage());
+            return false;
+        }
+    }
+
+    @Nonnull
+    private String classpath() {
+        return this.configuration
+                .getScanWorkerClasspath()
+                .orElseGet(
+                        () -> {
+                            final String classpath = System.getProperty("java.class.path");
+                            if (!classpath.endsWith("quarkus-run.jar")) {
+                                return classpath;
+                            }
+                            // fast-jar: the runner loads the classes from these directories
+                            final Path app = Path.of(classpath).toAbsolutePath().getParent();
+                            return String.join(
+                                    File.pathSeparator,
+                                    List.of(
+                                            app.resolve("app/*").toString(),
+                                            app.resolve("lib/main/*").toString(),
+                                            app.resolve("lib/boot/*").toString()));
+                        });
+    }
+
+    private static final class WorkerProcess {
+        @Nonnull private final Process process;
+        @Nonnull private final BufferedWriter input;
+        @Nonnull private final BufferedReader output;
+
+        WorkerProcess(@Nonnull Process process) {
+            this.process = process;
+            this.input =
+                    new BufferedWriter(
+                            new OutputStreamWriter(
+                                    process.getOutputStream(), StandardCharsets.UTF_8));
+            this.output =
+                    new BufferedReader(
+                            new InputStreamReader(
+                                    process.getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        long pid() {
+            return this.process.pid();
+        }
+
+        /**
+         * Sends the request and relays the progress messages until the worker reports the result or
+         * the failure of the scan.
+         *
+         * @throws IOException if the worker died
+         */
+        @Nonnull
+        Message scan(@Nonnull Request request, @Nonnull IProgressDispatcher progressDispatcher)
+                throws IOException, ClientDisconnected {
+            this.input.write(MAPPER.writeValueAsString(request));
+            this.input.newLine();
+            this.input.flush();
+            for (String line = this.output.readLine();
+                    line != null;
+                    line = this.output.readLine()) {
+                final Message message = MAPPER.readValue(line, Message.class);
+                if (message.progress() == null) {
+                    return message;
+                }
+                progressDispatcher.send(message.progress());
+            }
+            throw new IOException("worker stopped");
+        }
+
+        void destroy() {
+            this.process.destroyForcibly();
+        }
+    }
+}
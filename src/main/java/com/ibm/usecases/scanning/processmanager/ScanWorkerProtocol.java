@@ -0,0 +1,92 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.processmanager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibm.domain.scanning.CBOM;
+import com.ibm.domain.scanning.Language;
+import com.ibm.domain.scanning.StageTiming;
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
+import com.ibm.infrastructure.progress.ProgressMessage;
+import com.ibm.infrastructure.scanning.PrefilterMode;
+import com.ibm.usecases.scanning.services.scan.ScanResultDTO;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+
+/** Messages exchanged with a scan worker, as one JSON document per line. */
+final class ScanWorkerProtocol {
+    static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private ScanWorkerProtocol() {}
+
+    /** Sent to the worker: the sources to index and scan. */
+    record Request(
+            @Nonnull String scanId,
+            @Nonnull String projectDirectory,
+            @Nullable String packageFolder,
+            @Nonnull String gitUrl,
+            @Nonnull String revision,
+            @Nonnull String commit,
+            @Nonnull String javaDependencyJARSPath,
+            boolean streamDetections,
+            @Nonnull PrefilterMode prefilterMode) {}
+
+    record LanguageResult(
+            @Nonnull Language language,
+            long startTime,
+            long endTime,
+            int numberOfScannedLine,
+            int numberOfScannedFiles,
+            @Nullable JsonNode cbom) {
+
+        @Nonnull
+        static LanguageResult of(@Nonnull Language language, @Nonnull ScanResultDTO scanResult)
+                throws CBOMSerializationFailed {
+            return new LanguageResult(
+                    language,
+                    scanResult.startTime(),
+                    scanResult.endTime(),
+                    scanResult.numberOfScannedLine(),
+                    scanResult.numberOfScannedFiles(),
+                    scanResult.cbom() == null ? null : scanResult.cbom().toJSON());
+        }
+
+        @Nonnull
+        ScanResultDTO toScanResultDTO() throws CBOMSerializationFailed {
+            return new ScanResultDTO(
+                    startTime,
+                    endTime,
+                    numberOfScannedLine,
+                    numberOfScannedFiles,
+                    cbom == null ? null : CBOM.formJSON(cbom));
+        }
+    }
+
+    record Result(
+            @Nonnull List<LanguageResult> languages, @Nonnull List<StageTiming> stageTimings) {}
+
+    /** Sent by the worker: a progress message, or the result or failure that ends a scan. */
+    record Message(
+            @Nullable ProgressMessage progress,
+            @Nullable Result result,
+            @Nullable String failure) {}
+}
@@ -0,0 +1,270 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.processmanager;
+
+import com.ibm.domain.scanning.CBOM;
+import com.ibm.domain.scanning.Commit;
+import com.ibm.domain.scanning.GitUrl;
+import com.ibm.domain.scanning.Language;
+import com.ibm.domain.scanning.Revision;
+import com.ibm.domain.scanning.ScanStage;
+import com.ibm.domain.scanning.StageTiming;
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.infrastructure.progress.IProgressDispatcher;
+import com.ibm.infrastructure.progress.ProgressMessage;
+import com.ibm.infrastructure.progress.ProgressMessageType;
+import com.ibm.infrastructure.scanning.PrefilterMode;
+import com.ibm.usecases.scanning.errors.NoIndexForProject;
+import com.ibm.usecases.scanning.services.indexing.IBuildType;
+import com.ibm.usecases.scanning.services.indexing.IndexingService;
+import com.ibm.usecases.scanning.services.indexing.JavaIndexService;
+import com.ibm.usecases.scanning.services.indexing.ProjectModule;
+import com.ibm.usecases.scanning.services.indexing.PythonIndexService;
+import com.ibm.usecases.scanning.services.prefilter.CryptoApiPrefilter;
+import com.ibm.usecases.scanning.services.prefilter.PrefilterResult;
+import com.ibm.usecases.scanning.services.scan.ScanResultDTO;
+import com.ibm.usecases.scanning.services.scan.java.JavaScannerService;
+import com.ibm.usecases.scanning.services.scan.python.PythonScannerService;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.cyclonedx.model.Bom;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Indexes the sources of a cloned repository and scans them language by language, either for the
+ * process manager of a scan or in a scan worker. The timings of the stages are added to the given
+ * list.
+ */
+final class SourceScanner {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SourceScanner.class);
+    private static final IProgressDispatcher NO_PROGRESS = progressMessage -> {};
+
+    @Nonnull private final String scanId;
+    @Nonnull private final IProgressDispatcher progressDispatcher;
+    @Nonnull private final File projectDirectory;
+    @Nonnull private final String javaDependencyJARSPath;
+    private final boolean streamDetections;
+    @Nonnull private final PrefilterMode prefilterMode;
+    @Nonnull private final List<StageTiming> stageTimings;
+
+    @Nonnull private final Map<Language, List<ProjectModule>> index;
+    @Nonnull private final Map<Language, PrefilterResult> prefilterResults;
+    @Nonnull private final Map<Language, IBuildType> buildTypes;
+
+    SourceScanner(
+            @Nonnull String scanId,
+            @Nonnull IProgressDispatcher progressDispatcher,
+            @Nonnull File projectDirectory,
+            @Nonnull String javaDependencyJARSPath,
+            boolean streamDetections,
+            @Nonnull PrefilterMode prefilterMode,
+            @Nonnull List<StageTiming> stageTimings) {
+        this.scanId = scanId;
+        this.progressDispatcher = progressDispatcher;
+        this.projectDirectory = projectDirectory;
+        this.javaDependencyJARSPath = javaDependencyJARSPath;
+        this.streamDetections = streamDetections;
+        this.prefilterMode = prefilterMode;
+        this.stageTimings = stageTimings;
+        this.index = new EnumMap<>(Language.class);
+        this.prefilterResults = new EnumMap<>(Language.class);
+        this.buildTypes = new EnumMap<>(Language.class);
+    }
+
+    void index(@Nullable Path packageFolder) throws ClientDisconnected {
+        final StageTimer timer = StageTimer.start(ScanStage.INDEXING);
+        for (Language language : Language.values()) {
+            final IndexingService indexingService =
+                    switch (language) {
+                        case JAVA ->
+                                new JavaIndexService(
+                                        this.progressDispatcher, this.projectDirectory);
+                        case PYTHON ->
+                                new PythonIndexService(
+                                        this.progressDispatcher, this.projectDirectory);
+                    };
+            this.index.put(language, indexingService.index(packageFolder));
+            indexingService
+                    .getMainBuildType()
+                    .ifPresent(buildType -> this.buildTypes.put(language, buildType));
+        }
+        final int filesIndexed =
+                this.index.values().stream()
+                        .flatMap(List::stream)
+                        .mapToInt(module -> module.inputFileList().size())
+                        .sum();
+        this.stageTimings.add(timer.stop(null, filesIndexed, null, null));
+        if (this.prefilterMode != PrefilterMode.DISABLED) {
+            this.prefilterIndex();
+        }
+    }
+
+    private void prefilterIndex() {
+        final StageTimer timer = StageTimer.start(ScanStage.PREFILTER);
+        int totalFiles = 0;
+        int scannedFiles = 0;
+        for (Map.Entry<Language, List<ProjectModule>> entry : this.index.entrySet()) {
+            final PrefilterResult result =
+                    CryptoApiPrefilter.forLanguage(entry.getKey()).filter(entry.getValue());
+            this.prefilterResults.put(entry.getKey(), result);
+            totalFiles += result.totalFiles();
+            scannedFiles += result.scannedFiles();
+            LOGGER.info(
+                    "Scan {}: prefilter keeps {} of {} {} files ({} referring to a crypto API)",
+                    this.scanId,
+                    result.scannedFiles(),
+                    result.totalFiles(),
+                    entry.getKey(),
+                    result.matchedFiles());
+        }
+        if (this.prefilterMode == PrefilterMode.ENABLED) {
+            this.prefilterResults.forEach(
+                    (language, result) -> this.index.put(language, result.modules()));
+        }
+        this.stageTimings.add(timer.stop(null, totalFiles, scannedFiles, null));
+    }
+
+    /** Scans the indexed files of a language, and releases them afterwards. */
+    @Nonnull
+    ScanResultDTO scan(
+            @Nonnull Language language,
+            @Nonnull GitUrl gitUrl,
+            @Nonnull Revision revision,
+            @Nonnull Commit commit,
+            @Nullable Path packageFolder)
+            throws NoIndexForProject, ClientDisconnected {
+        final List<ProjectModule> languageIndex =
+                Optional.ofNullable(this.index.get(language)).orElseThrow(NoIndexForProject::new);
+        final StageTimer timer =
+                StageTimer.start(
+                        language == Language.JAVA ? ScanStage.JAVA_SCAN : ScanStage.PYTHON_SCAN);
+        final ScanResultDTO result =
+                scan(
+                        language,
+                        this.progressDispatcher,
+                        this.streamDetections,
+                        gitUrl,
+                        revision,
+                        commit,
+                        packageFolder,
+                        languageIndex);
+        this.stageTimings.add(
+                timer.stop(
+                        null,
+                        null,
+                        result.numberOfScannedFiles(),
+                        numberOfDetections(result.cbom())));
+        final PrefilterResult prefilterResult = this.prefilterResults.get(language);
+        if (this.prefilterMode == PrefilterMode.VALIDATE && prefilterResult != null) {
+            this.validatePrefilter(
+                    language,
+                    prefilterResult,
+                    result.cbom(),
+                    scan(
+                            language,
+                            NO_PROGRESS,
+                            false,
+                            gitUrl,
+                            revision,
+                            commit,
+                            packageFolder,
+                            prefilterResult.modules()));
+        }
+        // the sources of the scanned files are not needed anymore
+        this.index.remove(language);
+        this.prefilterResults.remove(language);
+        return result;
+    }
+
+    @Nonnull
+    private ScanResultDTO scan(
+            @Nonnull Language language,
+            @Nonnull IProgressDispatcher dispatcher,
+            boolean streamDetections,
+            @Nonnull GitUrl gitUrl,
+            @Nonnull Revision revision,
+            @Nonnull Commit commit,
+            @Nullable Path packageFolder,
+            @Nonnull List<ProjectModule> languageIndex)
+            throws ClientDisconnected {
+        return switch (language) {
+            case JAVA ->
+                    new JavaScannerService(
+                                    dispatcher,
+                                    this.javaDependencyJARSPath,
+                                    this.projectDirectory,
+                                    streamDetections)
+                            .scan(gitUrl, revision, commit, packageFolder, languageIndex);
+            case PYTHON ->
+                    new PythonScannerService(dispatcher, this.projectDirectory, streamDetections)
+                            .scan(gitUrl, revision, commit, packageFolder, languageIndex);
+        };
+    }
+
+    /** Logs the detections of the full scan that the scan of the prefiltered index missed. */
+    private void validatePrefilter(
+            @Nonnull Language language,
+            @Nonnull PrefilterResult prefilterResult,
+            @Nullable CBOM fullScanCbom,
+            @Nonnull ScanResultDTO prefilteredScanResult)
+            throws ClientDisconnected {
+        final List<String> missed =
+                CryptoApiPrefilter.missedDetections(fullScanCbom, prefilteredScanResult.cbom());
+        LOGGER.info(
+                "Scan {}: prefilter would skip {}% of the {} files and miss {} detections {}",
+                this.scanId,
+                Math.round(prefilterResult.filterRatio() * 100),
+                language,
+                missed.size(),
+                missed);
+        if (!missed.isEmpty()) {
+            this.progressDispatcher.send(
+                    new ProgressMessage(
+                            ProgressMessageType.WARNING,
+                            "Prefilter would miss "
+                                    + missed.size()
+                                    + " "
+                                    + language
+                                    + " detections"));
+        }
+    }
+
+    /** Drops everything kept for the scan, also when it did not finish. */
+    void release() {
+        this.index.clear();
+        this.prefilterResults.clear();
+        this.buildTypes.clear();
+    }
+
+    private static int numberOfDetections(@Nullable CBOM cbom) {
+        return Optional.ofNullable(cbom)
+                .map(CBOM::cycloneDXbom)
+                .map(Bom::getComponents)
+                .map(List::size)
+                .orElse(0);
+    }
+}
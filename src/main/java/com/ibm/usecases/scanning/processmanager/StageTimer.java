@@ -0,0 +1,95 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.processmanager;
+
+import com.ibm.domain.scanning.ScanStage;
+import com.ibm.domain.scanning.StageTiming;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures wall time, CPU time and allocated bytes of a scan stage. Has to be started and stopped
+ * on the thread that executes the stage.
+ */
+final class StageTimer {
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    @Nonnull private final ScanStage stage;
+    private final long startTime;
+    private final long startNanos;
+    private final long startCpuNanos;
+    private final long startAllocatedBytes;
+
+    private StageTimer(@Nonnull ScanStage stage) {
+        this.stage = stage;
+        this.startTime = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        this.startCpuNanos = cpuNanos();
+        this.startAllocatedBytes = allocatedBytes();
+    }
+
+    @Nonnull
+    static StageTimer start(@Nonnull ScanStage stage) {
+        return new StageTimer(stage);
+    }
+
+    @Nonnull
+    StageTiming stop() {
+        return stop(null, null, null, null);
+    }
+
+    @Nonnull
+    StageTiming stop(
+            @Nullable Long bytesCloned,
+            @Nullable Integer filesIndexed,
+            @Nullable Integer filesParsed,
+            @Nullable Integer detections) {
+        final long cpuNanos = cpuNanos();
+        final long allocatedBytes = allocatedBytes();
+        return new StageTiming(
+                this.stage,
+                this.startTime,
+                (System.nanoTime() - this.startNanos) / 1_000_000,
+                cpuNanos < 0 ? -1 : (cpuNanos - this.startCpuNanos) / 1_000_000,
+                allocatedBytes < 0 ? -1 : allocatedBytes - this.startAllocatedBytes,
+                bytesCloned,
+                filesIndexed,
+                filesParsed,
+                detections);
+    }
+
+    private static long cpuNanos() {
+        if (!THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+            return -1;
+        }
+        return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
+
+    private static long allocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean sunThreadMXBean
+                && sunThreadMXBean.isThreadAllocatedMemorySupported()
+                && sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return sunThreadMXBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
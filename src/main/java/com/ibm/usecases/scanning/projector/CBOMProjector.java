@@ -33,36 +33,54 @@ import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
 import com.ibm.domain.scanning.errors.NoValidProjectIdentifierForScan;
 import com.ibm.domain.scanning.events.ScanFinishedEvent;
 import com.ibm.infrastructure.database.readmodels.CBOMReadModel;
+import com.ibm.infrastructure.database.readmodels.CryptoAssetFilter;
+import com.ibm.infrastructure.database.readmodels.CryptoAssetReadModel;
 import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
+import com.ibm.infrastructure.database.readmodels.ICryptoAssetReadRepository;
 import com.ibm.infrastructure.errors.EntityNotFoundById;
 import com.ibm.usecases.scanning.errors.NoCBOMForScan;
 import com.ibm.usecases.scanning.errors.NoGitUrlSpecifiedForScan;
 import io.quarkus.runtime.StartupEvent;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.component.crypto.AlgorithmProperties;
+import org.cyclonedx.model.component.crypto.CryptoProperties;
+import org.cyclonedx.model.component.crypto.RelatedCryptoMaterialProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Singleton
 public class CBOMProjector extends Projector<UUID, CBOMReadModel> {
     private static final Logger LOGGER = LoggerFactory.getLogger(CBOMProjector.class);
+    private static final Pattern KEY_SIZE = Pattern.compile("\\d{1,6}");
     @Nonnull private final IRepository<ScanId, ScanAggregate> sourceRepository;
+    @Nonnull private final ICryptoAssetReadRepository cryptoAssetRepository;
 
     void onStart(@Observes StartupEvent event) {
         this.domainEventBus.subscribe(this);
+        // parsing the stored CBOMs must not hold up the startup
+        Thread.ofVirtual().name("crypto-asset-backfill").start(this::indexStoredCBOMs);
     }
 
     public CBOMProjector(
             @Nonnull IDomainEventBus domainEventBus,
             @Nonnull ICBOMReadRepository repository,
-            @Nonnull IRepository<ScanId, ScanAggregate> sourceRepository) {
+            @Nonnull IRepository<ScanId, ScanAggregate> sourceRepository,
+            @Nonnull ICryptoAssetReadRepository cryptoAssetRepository) {
         super(domainEventBus, repository);
         this.sourceRepository = sourceRepository;
+        this.cryptoAssetRepository = cryptoAssetRepository;
     }
 
     @Override
@@ -83,7 +101,7 @@ public class CBOMProjector extends Projector<UUID, CBOMReadModel> {
         final Optional<ScanAggregate> possibleScanAggregate = this.sourceRepository.read(scanId);
         final ScanAggregate scanAggregate =
                 possibleScanAggregate.orElseThrow(() -> new EntityNotFoundById(scanId));
-        // delete existing read model
+        // delete existing read model, its crypto assets are deleted with it
         String projectIdentifier = scanAggregate.getProjectIdentifier();
         if (this.repository instanceof ICBOMReadRepository cbomReadRepository) {
             cbomReadRepository
@@ -123,8 +141,99 @@ public class CBOMProjector extends Projector<UUID, CBOMReadModel> {
                         scanAggregate.getCommit().map(Commit::hash).orElse(null),
                         scanFinishedEvent.getTimestamp(),
                         mergedCBOM.toJSON());
-        // save read model
-        this.repository.save(cbomReadModel);
+        // save read model and its crypto assets
+        if (this.repository instanceof ICBOMReadRepository cbomReadRepository) {
+            cbomReadRepository.save(
+                    cbomReadModel, toCryptoAssets(cbomReadModel, mergedCBOM.cycloneDXbom()));
+        } else {
+            this.repository.save(cbomReadModel);
+        }
         LOGGER.info("Stored CBOM for {}", projectIdentifier);
     }
+
+    /**
+     * Indexes the crypto assets of the stored CBOMs that were stored before the index existed.
+     * Every indexed CBOM is marked, also if it has no assets, so an interrupted backfill continues
+     * with the next start. CBOMs deleted by a concurrent scan in the meantime are skipped.
+     */
+    private void indexStoredCBOMs() {
+        if (!(this.repository instanceof ICBOMReadRepository cbomReadRepository)) {
+            return;
+        }
+        final List<UUID> ids = cbomReadRepository.findIdsWithoutIndexedCryptoAssets();
+        for (final UUID id : ids) {
+            cbomReadRepository
+                    .read(id)
+                    .ifPresent(
+                            readModel -> {
+                                try {
+                                    this.cryptoAssetRepository.replace(
+                                            id,
+                                            toCryptoAssets(
+                                                    readModel,
+                                                    CBOM.formJSON(readModel.getBom())
+                                                            .cycloneDXbom()));
+                                } catch (CBOMSerializationFailed e) {
+                                    LOGGER.error(
+                                            "Could not index CBOM for {}",
+                                            readModel.getProjectIdentifier(),
+                                            e);
+                                }
+                            });
+        }
+        if (!ids.isEmpty()) {
+            LOGGER.info("Indexed crypto assets of {} stored CBOMs", ids.size());
+        }
+    }
+
+    @Nonnull
+    private static List<CryptoAssetReadModel> toCryptoAssets(
+            @Nonnull CBOMReadModel readModel, @Nonnull Bom bom) {
+        final List<Component> components =
+                Optional.ofNullable(bom.getComponents()).orElse(List.of());
+        final List<CryptoAssetReadModel> assets = new ArrayList<>(components.size());
+        for (final Component component : components) {
+            final CryptoProperties cryptoProperties = component.getCryptoProperties();
+            if (cryptoProperties == null
+                    || cryptoProperties.getAssetType() == null
+                    || component.getName() == null) {
+                continue;
+            }
+            final Optional<AlgorithmProperties> algorithmProperties =
+                    Optional.ofNullable(cryptoProperties.getAlgorithmProperties());
+            assets.add(
+                    new CryptoAssetReadModel(
+                            readModel.getId(),
+                            readModel.getProjectIdentifier(),
+                            readModel.getRepository(),
+                            readModel.getCommit(),
+                            component.getBomRef(),
+                            cryptoProperties.getAssetType().name(),
+                            CryptoAssetFilter.normalize(component.getName()),
+                            algorithmProperties
+                                    .map(AlgorithmProperties::getPrimitive)
+                                    .map(Enum::name)
+                                    .orElse(null),
+                            cryptoProperties.getOid(),
+                            keySize(cryptoProperties),
+                            algorithmProperties
+                                    .map(AlgorithmProperties::getCurve)
+                                    .map(curve -> curve.toLowerCase(Locale.ROOT))
+                                    .orElse(null)));
+        }
+        return assets;
+    }
+
+    @Nullable private static Integer keySize(@Nonnull CryptoProperties cryptoProperties) {
+        final String parameterSetIdentifier =
+                Optional.ofNullable(cryptoProperties.getAlgorithmProperties())
+                        .map(AlgorithmProperties::getParameterSetIdentifier)
+                        .orElse(null);
+        if (parameterSetIdentifier != null && KEY_SIZE.matcher(parameterSetIdentifier).matches()) {
+            return Integer.parseInt(parameterSetIdentifier);
+        }
+        return Optional.ofNullable(cryptoProperties.getRelatedCryptoMaterialProperties())
+                .map(RelatedCryptoMaterialProperties::getSize)
+                .orElse(null);
+    }
 }
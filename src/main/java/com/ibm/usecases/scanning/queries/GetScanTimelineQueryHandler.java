@@ -0,0 +1,55 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.queries;
+
+import app.bootstrap.core.cqrs.IQueryBus;
+import app.bootstrap.core.cqrs.QueryHandler;
+import com.ibm.infrastructure.scanning.ScanTimeline;
+import com.ibm.infrastructure.scanning.repositories.IStageTimingRepository;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+import java.util.Optional;
+
+@Singleton
+public final class GetScanTimelineQueryHandler
+        extends QueryHandler<GetScanTimelineQuery, Optional<ScanTimeline>> {
+
+    @Nonnull private final IStageTimingRepository stageTimingRepository;
+
+    void onStart(@Observes StartupEvent event) {
+        this.queryBus.register(this, GetScanTimelineQuery.class);
+    }
+
+    public GetScanTimelineQueryHandler(
+            @Nonnull IQueryBus queryBus, @Nonnull IStageTimingRepository stageTimingRepository) {
+        super(queryBus);
+        this.stageTimingRepository = stageTimingRepository;
+    }
+
+    @Override
+    public @Nonnull Optional<ScanTimeline> handle(
+            @Nonnull GetScanTimelineQuery getScanTimelineQuery) throws Exception {
+        return this.stageTimingRepository
+                .findStageTimings(getScanTimelineQuery.scanId())
+                .map(stages -> ScanTimeline.of(getScanTimelineQuery.scanId().getUuid(), stages));
+    }
+}
@@ -29,7 +29,7 @@ public final class GitProgressMonitor implements ProgressMonitor {
     private String currentTaskTitle;
     private int currentTaskWork = 0;
 
-    private static final String PREFIX_CLONING_GIT_REPOSITORY = "Cloning git repository: ";
+    static final String PREFIX_CLONING_GIT_REPOSITORY = "Cloning git repository: ";
 
     public GitProgressMonitor(@Nonnull Consumer<String> messageHandling) {
         this.messageHandling = messageHandling;
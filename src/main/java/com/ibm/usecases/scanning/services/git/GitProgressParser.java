@@ -0,0 +1,104 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.git;
+
+import static com.ibm.usecases.scanning.services.git.GitProgressMonitor.PREFIX_CLONING_GIT_REPOSITORY;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the progress git prints to stderr ({@code Receiving objects:  45% (450/1000), ...}) into
+ * the labels {@link GitProgressMonitor} sends for JGit: one when a task starts, one every 5
+ * percent, one when it is done. Other lines are kept, so that a failure can be reported with the
+ * message git ended with.
+ */
+final class GitProgressParser {
+    private static final Pattern PROGRESS =
+            Pattern.compile(
+                    "^(?:remote: )?([A-Z][A-Za-z ]*?):\\s+(\\d{1,3})% \\(\\d+/\\d+\\)(.*)$");
+
+    @Nonnull private final Consumer<String> messageHandling;
+    @Nullable private String currentTaskTitle;
+    private int lastPercentage;
+    @Nullable private String lastMessage;
+
+    GitProgressParser(@Nonnull Consumer<String> messageHandling) {
+        this.messageHandling = messageHandling;
+    }
+
+    /** Reads the stream until it ends. Lines are terminated by a newline or a carriage return. */
+    void read(@Nonnull InputStream stderr) {
+        try (Reader reader = new InputStreamReader(stderr, StandardCharsets.UTF_8)) {
+            final StringBuilder line = new StringBuilder();
+            for (int c = reader.read(); c != -1; c = reader.read()) {
+                if (c == '\n' || c == '\r') {
+                    this.accept(line.toString());
+                    line.setLength(0);
+                } else {
+                    line.append((char) c);
+                }
+            }
+            this.accept(line.toString());
+        } catch (IOException e) {
+            // the process ended, its exit code tells whether it failed
+        }
+    }
+
+    void accept(@Nonnull String line) {
+        final String trimmed = line.trim();
+        if (trimmed.isEmpty()) {
+            return;
+        }
+        final Matcher matcher = PROGRESS.matcher(trimmed);
+        if (!matcher.matches()) {
+            this.lastMessage = trimmed;
+            return;
+        }
+        final String title = matcher.group(1);
+        final int percentage = Integer.parseInt(matcher.group(2));
+        if (!title.equals(this.currentTaskTitle)) {
+            this.currentTaskTitle = title;
+            this.lastPercentage = percentage;
+            this.messageHandling.accept(
+                    PREFIX_CLONING_GIT_REPOSITORY + title + " " + percentage + "%");
+        } else if (percentage != this.lastPercentage && percentage % 5 == 0) {
+            this.lastPercentage = percentage;
+            this.messageHandling.accept(
+                    PREFIX_CLONING_GIT_REPOSITORY + title + " " + percentage + "%");
+        }
+        if (matcher.group(3).contains("done")) {
+            this.messageHandling.accept(PREFIX_CLONING_GIT_REPOSITORY + title + " done");
+        }
+    }
+
+    /** The last line that was not progress, usually the error git failed with. */
+    @Nullable String lastMessage() {
+        return this.lastMessage;
+    }
+}
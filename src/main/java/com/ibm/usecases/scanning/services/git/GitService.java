@@ -23,8 +23,6 @@ import com.ibm.domain.scanning.Commit;
 import com.ibm.domain.scanning.GitUrl;
 import com.ibm.domain.scanning.Revision;
 import com.ibm.domain.scanning.authentication.ICredentials;
-import com.ibm.domain.scanning.authentication.PersonalAccessToken;
-import com.ibm.domain.scanning.authentication.UsernameAndPasswordCredentials;
 import com.ibm.infrastructure.errors.ClientDisconnected;
 import com.ibm.infrastructure.progress.IProgressDispatcher;
 import com.ibm.infrastructure.progress.ProgressMessage;
@@ -33,88 +31,147 @@ import com.ibm.usecases.scanning.errors.GitCloneFailed;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.io.File;
-import java.io.IOException;
-import java.util.List;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
 import java.util.UUID;
-import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.errors.GitAPIException;
-import org.eclipse.jgit.lib.ObjectId;
-import org.eclipse.jgit.lib.Ref;
-import org.eclipse.jgit.transport.CredentialsProvider;
-import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 
+/**
+ * Resolves and clones the revisions to scan. The git operations themselves are done by the {@link
+ * IGitBackend}; this class matches revisions, applies the clone URL rewrites and reports progress.
+ */
 public final class GitService {
+    private static final String R_HEADS = "refs/heads/";
+    private static final String R_TAGS = "refs/tags/";
+
     @Nonnull private final IProgressDispatcher progressDispatcher;
     @Nonnull private final String baseCloneDirPath;
     @Nullable private final ICredentials credentials;
+    @Nonnull private final Map<String, String> cloneUrlRewrites;
+    @Nonnull private final IGitBackend backend;
 
     public GitService(
             @Nonnull IProgressDispatcher progressDispatcher,
             @Nonnull String baseCloneDirPath,
-            @Nullable ICredentials credentials) {
+            @Nullable ICredentials credentials,
+            @Nonnull Map<String, String> cloneUrlRewrites,
+            @Nonnull IGitBackend backend) {
         this.progressDispatcher = progressDispatcher;
         this.baseCloneDirPath = baseCloneDirPath;
         this.credentials = credentials;
+        this.cloneUrlRewrites = cloneUrlRewrites;
+        this.backend = backend;
     }
 
+    /**
+     * Clones the repository and checks out the commit, or the revision if the commit is not known
+     * yet. With a package folder only that folder is checked out, together with the files directly
+     * in its parent directories (where build files live), like a sparse checkout in cone mode.
+     */
     @Nonnull
     public CloneResultDTO clone(
-            @Nonnull GitUrl gitUrl, @Nonnull Revision revision, @Nullable Commit commit)
+            @Nonnull GitUrl gitUrl,
+            @Nonnull Revision revision,
+            @Nullable Commit commit,
+            @Nullable Path packageFolder)
             throws GitCloneFailed, ClientDisconnected {
-        try {
-            final File scanCloneFile = createDirectory();
-            final Git clonedRepo =
-                    Git.cloneRepository()
-                            .setProgressMonitor(getProgressMonitor())
-                            .setURI(gitUrl.value())
-                            // .setBranch(revision.value())
-                            .setDirectory(scanCloneFile)
-                            .setCredentialsProvider(getCredentialsProvider(credentials))
-                            .call();
-
-            if (commit != null) {
-                final Ref ref =
-                        clonedRepo
-                                .checkout()
-                                .setName(revision.value())
-                                .setCreateBranch(false)
-                                .setStartPoint(commit.hash())
-                                .call();
-                if (ref == null) {
-                    throw new GitCloneFailed(
-                            "Commit "
-                                    + commit.hash()
-                                    + " not found for revision "
-                                    + revision.value());
-                }
-            } else {
-                final List<Ref> refs = clonedRepo.tagList().call();
-                Ref ref =
-                        refs.stream()
-                                .filter(r -> r.getName().endsWith(revision.value()))
-                                .findFirst()
-                                .orElse(null);
-                if (ref == null) {
-                    ref = clonedRepo.getRepository().findRef(revision.value());
-                }
-                if (ref == null) {
-                    throw new GitCloneFailed("Revision not found: " + revision.value());
-                }
+        final String sparseFolder = sparseFolder(packageFolder);
+        final File scanCloneFile = createDirectory();
+        this.backend.clone(
+                cloneUri(gitUrl), scanCloneFile, credentials, sparseFolder, this::sendProgress);
 
-                ObjectId commitHash = ref.getPeeledObjectId(); // only works for tagged versions
-                if (commitHash == null) {
-                    commitHash = ref.getObjectId();
-                }
-                if (commitHash == null) {
-                    throw new GitCloneFailed("Commit not found for revision " + revision.value());
-                }
-                commit = new Commit(commitHash.abbreviate(7).name());
+        final String commitId;
+        if (commit != null) {
+            commitId = this.backend.resolveCommit(scanCloneFile, commit.hash());
+            if (commitId == null) {
+                throw new GitCloneFailed(
+                        "Commit " + commit.hash() + " not found for revision " + revision.value());
             }
+        } else {
+            commitId = this.backend.resolveRevision(scanCloneFile, revision);
+            if (commitId == null) {
+                throw new GitCloneFailed("Revision not found: " + revision.value());
+            }
+            commit = abbreviate(commitId);
+        }
+        // detached at the commit, which may not be the tip of the revision anymore
+        this.backend.checkout(scanCloneFile, commitId, credentials, sparseFolder);
+        return new CloneResultDTO(commit, scanCloneFile);
+    }
 
-            return new CloneResultDTO(commit, scanCloneFile);
-        } catch (GitAPIException | GitCloneFailed | IOException e) {
-            throw new GitCloneFailed("Git clone failed: " + e.getMessage());
+    /** The package folder as a path in the repository, null if the whole tree is checked out. */
+    @Nullable static String sparseFolder(@Nullable Path packageFolder) {
+        if (packageFolder == null) {
+            return null;
         }
+        final String folder =
+                packageFolder.normalize().toString().replace('\\', '/').replaceAll("^/+|/+$", "");
+        return folder.isEmpty() ? null : folder;
+    }
+
+    /**
+     * Resolves the revision from the refs advertised by the remote, like {@code git ls-remote},
+     * without downloading any objects. The revision is matched like in {@link #clone}: a tag ending
+     * with it first, then a branch.
+     */
+    @Nonnull
+    public RemoteRevisionDTO resolve(@Nonnull GitUrl gitUrl, @Nonnull Revision revision)
+            throws GitCloneFailed {
+        final RemoteRefsDTO remoteRefs = this.backend.lsRemote(cloneUri(gitUrl), credentials);
+        final Map<String, String> refs = remoteRefs.refs();
+        String commitId = refs.get(R_TAGS + revision.value());
+        if (commitId == null) {
+            commitId =
+                    refs.entrySet().stream()
+                            .filter(r -> r.getKey().startsWith(R_TAGS))
+                            .filter(r -> r.getKey().endsWith(revision.value()))
+                            .map(Map.Entry::getValue)
+                            .findFirst()
+                            .orElse(null);
+        }
+        if (commitId == null) {
+            commitId = refs.get(R_HEADS + revision.value());
+        }
+        return new RemoteRevisionDTO(
+                commitId == null ? null : abbreviate(commitId), defaultBranch(remoteRefs));
+    }
+
+    @Nullable private static Revision defaultBranch(@Nonnull RemoteRefsDTO remoteRefs) {
+        if (remoteRefs.head() != null) {
+            return new Revision(shortenBranch(remoteRefs.head()));
+        }
+        final String headCommit = remoteRefs.headCommit();
+        if (headCommit == null) {
+            return null;
+        }
+        // without the symref capability, take a branch pointing to the same commit
+        return remoteRefs.refs().entrySet().stream()
+                .filter(r -> r.getKey().startsWith(R_HEADS))
+                .filter(r -> headCommit.equals(r.getValue()))
+                .map(r -> new Revision(shortenBranch(r.getKey())))
+                .min(Comparator.comparing(branch -> !branch.value().equals("master")))
+                .orElse(null);
+    }
+
+    @Nonnull
+    private static String shortenBranch(@Nonnull String ref) {
+        return ref.startsWith(R_HEADS) ? ref.substring(R_HEADS.length()) : ref;
+    }
+
+    @Nonnull
+    private static Commit abbreviate(@Nonnull String commitId) {
+        return new Commit(commitId.substring(0, Math.min(7, commitId.length())));
+    }
+
+    /** Applies the rewrite with the longest matching prefix, like git's insteadOf. */
+    @Nonnull
+    String cloneUri(@Nonnull GitUrl gitUrl) {
+        final String url = gitUrl.value();
+        return cloneUrlRewrites.entrySet().stream()
+                .filter(rewrite -> url.startsWith(rewrite.getKey()))
+                .max(Comparator.comparingInt(rewrite -> rewrite.getKey().length()))
+                .map(rewrite -> rewrite.getValue() + url.substring(rewrite.getKey().length()))
+                .orElse(url);
     }
 
     @Nonnull
@@ -132,29 +189,12 @@ public final class GitService {
         return scanCloneFile;
     }
 
-    @Nonnull
-    private GitProgressMonitor getProgressMonitor() {
-        return new GitProgressMonitor(
-                progressMessage -> {
-                    try {
-                        this.progressDispatcher.send(
-                                new ProgressMessage(ProgressMessageType.LABEL, progressMessage));
-                    } catch (ClientDisconnected e) {
-                        // nothing
-                    }
-                });
-    }
-
-    @Nullable private CredentialsProvider getCredentialsProvider(@Nullable ICredentials credentials) {
-        if (credentials
-                instanceof
-                UsernameAndPasswordCredentials(
-                        @Nonnull String username,
-                        @Nonnull String password)) {
-            return new UsernamePasswordCredentialsProvider(username, password);
-        } else if (credentials instanceof PersonalAccessToken(@Nonnull String token)) {
-            return new UsernamePasswordCredentialsProvider(token, "");
+    private void sendProgress(@Nonnull String progressMessage) {
+        try {
+            this.progressDispatcher.send(
+                    new ProgressMessage(ProgressMessageType.LABEL, progressMessage));
+        } catch (ClientDisconnected e) {
+            // nothing
         }
-        return null;
     }
 }
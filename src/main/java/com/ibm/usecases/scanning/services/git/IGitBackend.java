@@ -0,0 +1,87 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.git;
+
+import com.ibm.domain.scanning.Revision;
+import com.ibm.domain.scanning.authentication.ICredentials;
+import com.ibm.infrastructure.scanning.GitBackendMode;
+import com.ibm.usecases.scanning.errors.GitCloneFailed;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.File;
+import java.util.function.Consumer;
+
+/**
+ * The git implementation behind {@link GitService}. Commits are full ids, sparse folders are paths
+ * in the repository with forward slashes.
+ */
+public interface IGitBackend {
+
+    @Nonnull
+    static IGitBackend of(@Nonnull GitBackendMode mode) {
+        return switch (mode) {
+            case JGIT -> new JGitBackend();
+            case NATIVE -> new NativeGitBackend();
+            case AUTO -> NativeGitBackend.isAvailable() ? new NativeGitBackend() : new JGitBackend();
+        };
+    }
+
+    /** Lists the refs of the remote without downloading any objects. */
+    @Nonnull
+    RemoteRefsDTO lsRemote(@Nonnull String uri, @Nullable ICredentials credentials)
+            throws GitCloneFailed;
+
+    /**
+     * Clones the remote into the empty directory. The commit to scan is checked out afterwards
+     * with {@link #checkout}; with a sparse folder, the clone itself checks out nothing.
+     *
+     * @param progress receives labels describing the progress of the clone
+     */
+    void clone(
+            @Nonnull String uri,
+            @Nonnull File directory,
+            @Nullable ICredentials credentials,
+            @Nullable String sparseFolder,
+            @Nonnull Consumer<String> progress)
+            throws GitCloneFailed;
+
+    /** The full id of the commit, or null if the clone does not contain it. */
+    @Nullable String resolveCommit(@Nonnull File directory, @Nonnull String commit)
+            throws GitCloneFailed;
+
+    /**
+     * The full id of the commit of the first tag ending with the revision, or else of the branch
+     * with that name. Null if the clone has neither.
+     */
+    @Nullable String resolveRevision(@Nonnull File directory, @Nonnull Revision revision)
+            throws GitCloneFailed;
+
+    /**
+     * Detaches HEAD at the commit and checks it out. With a sparse folder only that folder and the
+     * files directly in its parent directories are checked out, like a sparse checkout in cone
+     * mode.
+     */
+    void checkout(
+            @Nonnull File directory,
+            @Nonnull String commit,
+            @Nullable ICredentials credentials,
+            @Nullable String sparseFolder)
+            throws GitCloneFailed;
+}
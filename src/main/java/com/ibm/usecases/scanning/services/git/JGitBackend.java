@@ -0,0 +1,199 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.git;
+
+import com.ibm.domain.scanning.Revision;
+import com.ibm.domain.scanning.authentication.ICredentials;
+import com.ibm.domain.scanning.authentication.PersonalAccessToken;
+import com.ibm.domain.scanning.authentication.UsernameAndPasswordCredentials;
+import com.ibm.usecases.scanning.errors.GitCloneFailed;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.eclipse.jgit.treewalk.TreeWalk;
+
+/** Clones with JGit, inside the service process. */
+public final class JGitBackend implements IGitBackend {
+
+    @Nonnull
+    @Override
+    public RemoteRefsDTO lsRemote(@Nonnull String uri, @Nullable ICredentials credentials)
+            throws GitCloneFailed {
+        final Map<String, Ref> advertised;
+        try {
+            advertised =
+                    Git.lsRemoteRepository()
+                            .setRemote(uri)
+                            .setCredentialsProvider(getCredentialsProvider(credentials))
+                            .callAsMap();
+        } catch (GitAPIException e) {
+            throw new GitCloneFailed("Git ls-remote failed: " + e.getMessage());
+        }
+        final Map<String, String> refs = new HashMap<>();
+        for (Ref ref : advertised.values()) {
+            final ObjectId id =
+                    ref.getPeeledObjectId() != null ? ref.getPeeledObjectId() : ref.getObjectId();
+            if (id != null) {
+                refs.put(ref.getName(), id.name());
+            }
+        }
+        final Ref head = advertised.get(Constants.HEAD);
+        return new RemoteRefsDTO(
+                refs,
+                head != null && head.isSymbolic() ? head.getTarget().getName() : null,
+                head != null && head.getObjectId() != null ? head.getObjectId().name() : null);
+    }
+
+    @Override
+    public void clone(
+            @Nonnull String uri,
+            @Nonnull File directory,
+            @Nullable ICredentials credentials,
+            @Nullable String sparseFolder,
+            @Nonnull Consumer<String> progress)
+            throws GitCloneFailed {
+        try (Git ignored =
+                Git.cloneRepository()
+                        .setProgressMonitor(new GitProgressMonitor(progress))
+                        .setURI(uri)
+                        .setDirectory(directory)
+                        .setNoCheckout(sparseFolder != null)
+                        .setCredentialsProvider(getCredentialsProvider(credentials))
+                        .call()) {
+            // the commit is checked out once it is known
+        } catch (GitAPIException e) {
+            throw new GitCloneFailed("Git clone failed: " + e.getMessage());
+        }
+    }
+
+    @Nullable @Override
+    public String resolveCommit(@Nonnull File directory, @Nonnull String commit)
+            throws GitCloneFailed {
+        try (Git git = Git.open(directory)) {
+            final ObjectId id = git.getRepository().resolve(commit + "^{commit}");
+            return id == null ? null : id.name();
+        } catch (IOException e) {
+            throw new GitCloneFailed("Git clone failed: " + e.getMessage());
+        }
+    }
+
+    @Nullable @Override
+    public String resolveRevision(@Nonnull File directory, @Nonnull Revision revision)
+            throws GitCloneFailed {
+        try (Git git = Git.open(directory)) {
+            final Repository repository = git.getRepository();
+            final List<Ref> tags = git.tagList().call();
+            Ref ref =
+                    tags.stream()
+                            .filter(r -> r.getName().endsWith(revision.value()))
+                            .findFirst()
+                            .orElse(null);
+            if (ref == null) {
+                ref = repository.findRef(revision.value());
+            }
+            if (ref == null) {
+                return null;
+            }
+            // peels annotated tags to their commit
+            final ObjectId id = repository.resolve(ref.getName() + "^{commit}");
+            return id == null ? null : id.name();
+        } catch (GitAPIException | IOException e) {
+            throw new GitCloneFailed("Git clone failed: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void checkout(
+            @Nonnull File directory,
+            @Nonnull String commit,
+            @Nullable ICredentials credentials,
+            @Nullable String sparseFolder)
+            throws GitCloneFailed {
+        try (Git git = Git.open(directory)) {
+            if (sparseFolder == null) {
+                git.checkout().setName(commit).call();
+            } else {
+                sparseCheckout(git, ObjectId.fromString(commit), sparseFolder);
+            }
+        } catch (GitAPIException | IOException e) {
+            throw new GitCloneFailed("Git checkout failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * JGit has no sparse checkout, so this checks out the paths of the cone into the otherwise
+     * empty working tree of a clone without checkout.
+     */
+    private static void sparseCheckout(
+            @Nonnull Git git, @Nonnull ObjectId commitId, @Nonnull String folder)
+            throws IOException, GitAPIException {
+        final Repository repository = git.getRepository();
+        final RefUpdate head = repository.updateRef(Constants.HEAD, true);
+        head.setNewObjectId(commitId);
+        head.forceUpdate();
+
+        final List<String> paths = new ArrayList<>();
+        paths.add(folder);
+        try (RevWalk revWalk = new RevWalk(repository);
+                TreeWalk treeWalk = new TreeWalk(repository)) {
+            treeWalk.addTree(revWalk.parseCommit(commitId).getTree());
+            treeWalk.setRecursive(false);
+            while (treeWalk.next()) {
+                final String path = treeWalk.getPathString();
+                if (!treeWalk.isSubtree()) {
+                    paths.add(path);
+                } else if (folder.startsWith(path + "/")) {
+                    treeWalk.enterSubtree();
+                }
+            }
+        }
+        git.checkout().setStartPoint(commitId.name()).addPaths(paths).call();
+    }
+
+    @Nullable private static CredentialsProvider getCredentialsProvider(
+            @Nullable ICredentials credentials) {
+        if (credentials
+                instanceof
+                UsernameAndPasswordCredentials(
+                        @Nonnull String username,
+                        @Nonnull String password)) {
+            return new UsernamePasswordCredentialsProvider(username, password);
+        } else if (credentials instanceof PersonalAccessToken(@Nonnull String token)) {
+            return new UsernamePasswordCredentialsProvider(token, "");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.git;
+
+import com.ibm.domain.scanning.Revision;
+import com.ibm.domain.scanning.authentication.ICredentials;
+import com.ibm.domain.scanning.authentication.PersonalAccessToken;
+import com.ibm.domain.scanning.authentication.UsernameAndPasswordCredentials;
+import com.ibm.usecases.scanning.errors.GitCloneFailed;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Clones with the git executable on the PATH. It is faster than JGit for large repositories and
+ * does not use the heap of the service. A clone of a sparse folder is also a partial clone, so
+ * only the blobs of the checked out files are downloaded.
+ */
+public final class NativeGitBackend implements IGitBackend {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NativeGitBackend.class);
+
+    private static final String GIT = "git";
+    // configuration from GIT_CONFIG_COUNT is read since git 2.31
+    private static final int[] MINIMUM_VERSION = {2, 31};
+    private static final Pattern VERSION = Pattern.compile("git version (\\d+)\\.(\\d+)");
+    private static final String PEELED = "^{}";
+
+    private record Result(int exitCode, @Nonnull String output, @Nullable String error) {}
+
+    private static final class Availability {
+        private static final boolean AVAILABLE = detect();
+
+        private Availability() {}
+    }
+
+    /** Whether a git executable recent enough for this backend is on the PATH. */
+    public static boolean isAvailable() {
+        return Availability.AVAILABLE;
+    }
+
+    private static boolean detect() {
+        try {
+            final Result result = run(null, null, null, List.of("--version"));
+            final Matcher matcher = VERSION.matcher(result.output());
+            if (result.exitCode() == 0 && matcher.find()) {
+                final int major = Integer.parseInt(matcher.group(1));
+                final int minor = Integer.parseInt(matcher.group(2));
+                final boolean recent =
+                        major > MINIMUM_VERSION[0]
+                                || (major == MINIMUM_VERSION[0] && minor >= MINIMUM_VERSION[1]);
+                LOGGER.info(
+                        "Found {}, cloning with {}",
+                        result.output().trim(),
+                        recent ? "git" : "JGit, git 2.31 or later is needed");
+                return recent;
+            }
+        } catch (GitCloneFailed e) {
+            // not on the PATH
+        }
+        LOGGER.info("No git executable found, cloning with JGit");
+        return false;
+    }
+
+    @Nonnull
+    @Override
+    public RemoteRefsDTO lsRemote(@Nonnull String uri, @Nullable ICredentials credentials)
+            throws GitCloneFailed {
+        final String output =
+                git(null, credentials, null, "Git ls-remote failed", "ls-remote", "--symref", uri);
+        final Map<String, String> refs = new HashMap<>();
+        final Map<String, String> peeled = new HashMap<>();
+        String head = null;
+        for (String line : output.split("\n")) {
+            final String[] columns = line.split("\t", 2);
+            if (columns.length != 2) {
+                continue;
+            }
+            if (columns[0].startsWith("ref: ")) {
+                if (columns[1].equals("HEAD")) {
+                    head = columns[0].substring("ref: ".length()).trim();
+                }
+            } else if (columns[1].endsWith(PEELED)) {
+                peeled.put(
+                        columns[1].substring(0, columns[1].length() - PEELED.length()),
+                        columns[0]);
+            } else {
+                refs.put(columns[1], columns[0]);
+            }
+        }
+        refs.putAll(peeled);
+        return new RemoteRefsDTO(refs, head, refs.get("HEAD"));
+    }
+
+    @Override
+    public void clone(
+            @Nonnull String uri,
+            @Nonnull File directory,
+            @Nullable ICredentials credentials,
+            @Nullable String sparseFolder,
+            @Nonnull Consumer<String> progress)
+            throws GitCloneFailed {
+        final List<String> args = new ArrayList<>(List.of("clone", "--progress", "--no-checkout"));
+        if (sparseFolder != null) {
+            // blobs are fetched on checkout, only for the files of the sparse folder
+            args.add("--filter=blob:none");
+        }
+        args.add(uri);
+        args.add(directory.getAbsolutePath());
+        final Result result = run(null, credentials, progress, args);
+        if (result.exitCode() != 0) {
+            throw new GitCloneFailed("Git clone failed: " + result.error());
+        }
+    }
+
+    @Nullable @Override
+    public String resolveCommit(@Nonnull File directory, @Nonnull String commit)
+            throws GitCloneFailed {
+        return revParse(directory, commit);
+    }
+
+    @Nullable @Override
+    public String resolveRevision(@Nonnull File directory, @Nonnull Revision revision)
+            throws GitCloneFailed {
+        final String tags =
+                git(
+                        directory,
+                        null,
+                        null,
+                        "Git for-each-ref failed",
+                        "for-each-ref",
+                        "--format=%(refname)",
+                        "refs/tags");
+        for (String tag : tags.split("\n")) {
+            if (!tag.isBlank() && tag.endsWith(revision.value())) {
+                return revParse(directory, tag);
+            }
+        }
+        // branches other than the default one only exist as remote-tracking branches
+        final String branch = revParse(directory, revision.value());
+        return branch != null
+                ? branch
+                : revParse(directory, "refs/remotes/origin/" + revision.value());
+    }
+
+    @Override
+    public void checkout(
+            @Nonnull File directory,
+            @Nonnull String commit,
+            @Nullable ICredentials credentials,
+            @Nullable String sparseFolder)
+            throws GitCloneFailed {
+        if (sparseFolder != null) {
+            // written directly: "git sparse-checkout set" would update the working tree of HEAD
+            try {
+                Files.writeString(
+                        directory.toPath().resolve(".git/info/sparse-checkout"),
+                        conePatterns(sparseFolder),
+                        StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new GitCloneFailed("Git checkout failed: " + e.getMessage());
+            }
+            for (String setting : List.of("core.sparseCheckout", "core.sparseCheckoutCone")) {
+                git(directory, null, null, "Git checkout failed", "config", setting, "true");
+            }
+        }
+        git(
+                directory,
+                credentials,
+                null,
+                "Git checkout failed",
+                "checkout",
+                "--quiet",
+                "--detach",
+                commit);
+    }
+
+    /**
+     * The patterns {@code git sparse-checkout set --cone} writes: all files of the folder, and the
+     * files directly in each of its parents.
+     */
+    @Nonnull
+    static String conePatterns(@Nonnull String folder) {
+        final StringBuilder patterns = new StringBuilder("/*\n!/*/\n");
+        final String[] segments = folder.split("/");
+        final StringBuilder path = new StringBuilder("/");
+        for (int i = 0; i < segments.length; i++) {
+            path.append(segments[i]).append('/');
+            patterns.append(path).append('\n');
+            if (i < segments.length - 1) {
+                patterns.append('!').append(path).append("*/\n");
+            }
+        }
+        return patterns.toString();
+    }
+
+    @Nullable private static String revParse(@Nonnull File directory, @Nonnull String revision)
+            throws GitCloneFailed {
+        final Result result =
+                run(
+                        directory,
+                        null,
+                        null,
+                        List.of("rev-parse", "--verify", "--quiet", revision + "^{commit}"));
+        return result.exitCode() == 0 ? result.output().trim() : null;
+    }
+
+    @Nonnull
+    private static String git(
+            @Nullable File directory,
+            @Nullable ICredentials credentials,
+            @Nullable Consumer<String> progress,
+            @Nonnull String failure,
+            @Nonnull String... args)
+            throws GitCloneFailed {
+        final Result result = run(directory, credentials, progress, List.of(args));
+        if (result.exitCode() != 0) {
+            throw new GitCloneFailed(failure + ": " + result.error());
+        }
+        return result.output();
+    }
+
+    @Nonnull
+    private static Result run(
+            @Nullable File directory,
+            @Nullable ICredentials credentials,
+            @Nullable Consumer<String> progress,
+            @Nonnull List<String> args)
+            throws GitCloneFailed {
+        final List<String> command = new ArrayList<>();
+        command.add(GIT);
+        command.addAll(args);
+        final ProcessBuilder builder = new ProcessBuilder(command);
+        if (directory != null) {
+            builder.directory(directory);
+        }
+        environment(builder.environment(), credentials);
+        try {
+            final Process process = builder.start();
+            process.getOutputStream().close();
+            final GitProgressParser parser =
+                    new GitProgressParser(progress != null ? progress : message -> {});
+            final Thread stderr =
+                    Thread.ofVirtual().start(() -> parser.read(process.getErrorStream()));
+            final String output =
+                    new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            final int exitCode = process.waitFor();
+            stderr.join();
+            return new Result(exitCode, output, parser.lastMessage());
+        } catch (IOException e) {
+            throw new GitCloneFailed("Could not run git: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GitCloneFailed("Interrupted while running git");
+        }
+    }
+
+    /**
+     * Never prompts, and passes credentials as an HTTP header through the environment, where other
+     * users cannot see them, instead of in the URL or the command line.
+     */
+    private static void environment(
+            @Nonnull Map<String, String> environment, @Nullable ICredentials credentials) {
+        environment.put("GIT_TERMINAL_PROMPT", "0");
+        environment.put("LC_ALL", "C");
+        final String userInfo;
+        if (credentials
+                instanceof
+                UsernameAndPasswordCredentials(
+                        @Nonnull String username,
+                        @Nonnull String password)) {
+            userInfo = username + ":" + password;
+        } else if (credentials instanceof PersonalAccessToken(@Nonnull String token)) {
+            userInfo = token + ":";
+        } else {
+            return;
+        }
+        environment.put("GIT_CONFIG_COUNT", "1");
+        environment.put("GIT_CONFIG_KEY_0", "http.extraHeader");
+        environment.put(
+                "GIT_CONFIG_VALUE_0",
+                "Authorization: Basic "
+                        + Base64.getEncoder()
+                                .encodeToString(userInfo.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.git;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * The refs advertised by a remote, like {@code git ls-remote --symref}. {@code refs} maps each ref
+ * name to the full id of the commit it points to, with tags peeled. {@code head} is the branch
+ * HEAD refers to if the remote advertised it, {@code headCommit} the commit of HEAD.
+ */
+public record RemoteRefsDTO(
+        @Nonnull Map<String, String> refs, @Nullable String head, @Nullable String headCommit) {}
@@ -0,0 +1,212 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.prefilter;
+
+import com.ibm.domain.scanning.CBOM;
+import com.ibm.domain.scanning.Language;
+import com.ibm.usecases.scanning.services.indexing.ProjectModule;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.component.evidence.Occurrence;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.batch.fs.InputFile;
+
+/**
+ * Removes the files from an index that cannot lead to a detection, because they neither refer to
+ * a cryptographic API nor are needed to resolve the types of a file that does. The check is
+ * lexical: a file is kept if its contents contain the name of a package or module the detection
+ * rules look for. For java, the files declaring a type used by a kept file and the files using a
+ * type declared by a kept file are kept as well, so that the scanner can follow values across
+ * them.
+ */
+public final class CryptoApiPrefilter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CryptoApiPrefilter.class);
+
+    private static final CryptoApiPrefilter JAVA =
+            new CryptoApiPrefilter(
+                    Language.JAVA,
+                    List.of(
+                            "javax.crypto",
+                            "java.security",
+                            "javax.security",
+                            "javax.net.ssl",
+                            "org.bouncycastle"));
+    private static final CryptoApiPrefilter PYTHON =
+            new CryptoApiPrefilter(Language.PYTHON, List.of("cryptography"));
+
+    private static final String JAVA_FILE_SUFFIX = ".java";
+
+    @Nonnull private final Language language;
+    @Nonnull private final KeywordMatcher apiMatcher;
+
+    private CryptoApiPrefilter(@Nonnull Language language, @Nonnull List<String> apiKeywords) {
+        this.language = language;
+        this.apiMatcher = new KeywordMatcher(apiKeywords);
+    }
+
+    @Nonnull
+    public static CryptoApiPrefilter forLanguage(@Nonnull Language language) {
+        return switch (language) {
+            case JAVA -> JAVA;
+            case PYTHON -> PYTHON;
+        };
+    }
+
+    @Nonnull
+    public PrefilterResult filter(@Nonnull List<ProjectModule> modules) {
+        final Set<InputFile> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        int totalFiles = 0;
+        for (ProjectModule module : modules) {
+            for (InputFile inputFile : module.inputFileList()) {
+                totalFiles++;
+                final String contents = contents(inputFile);
+                // files that cannot be read are left to the scanner to report
+                if (contents == null || apiMatcher.containsAny(contents)) {
+                    selected.add(inputFile);
+                }
+            }
+        }
+        final int matchedFiles = selected.size();
+        if (language == Language.JAVA && matchedFiles > 0 && matchedFiles < totalFiles) {
+            addTypeNeighbours(modules, selected);
+        }
+        final List<ProjectModule> filteredModules =
+                modules.stream()
+                        .map(
+                                module ->
+                                        new ProjectModule(
+                                                module.identifier(),
+                                                module.inputFileList().stream()
+                                                        .filter(selected::contains)
+                                                        .toList()))
+                        .filter(module -> !module.inputFileList().isEmpty())
+                        .toList();
+        return new PrefilterResult(filteredModules, totalFiles, matchedFiles, selected.size());
+    }
+
+    private static void addTypeNeighbours(
+            @Nonnull List<ProjectModule> modules, @Nonnull Set<InputFile> selected) {
+        final Set<String> usedTypes = new HashSet<>();
+        final Set<String> declaredTypes = new HashSet<>();
+        for (InputFile inputFile : selected) {
+            final String contents = contents(inputFile);
+            if (contents != null) {
+                collectTypeIdentifiers(contents, usedTypes);
+            }
+            final String typeName = typeName(inputFile);
+            if (typeName.chars().allMatch(c -> c < 128)) {
+                declaredTypes.add(typeName);
+            }
+        }
+        final KeywordMatcher declaredTypeMatcher = new KeywordMatcher(declaredTypes);
+        final List<InputFile> neighbours =
+                modules.stream()
+                        .flatMap(module -> module.inputFileList().stream())
+                        .filter(inputFile -> !selected.contains(inputFile))
+                        .filter(
+                                inputFile ->
+                                        usedTypes.contains(typeName(inputFile))
+                                                || declaredTypeMatcher.containsAny(
+                                                        Optional.ofNullable(contents(inputFile))
+                                                                .orElse("")))
+                        .toList();
+        selected.addAll(neighbours);
+    }
+
+    /** Adds the identifiers starting with an upper case letter, by convention the type names. */
+    private static void collectTypeIdentifiers(
+            @Nonnull String text, @Nonnull Set<String> identifiers) {
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            final boolean identifierPart =
+                    i < text.length() && Character.isJavaIdentifierPart(text.charAt(i));
+            if (identifierPart && start < 0) {
+                start = i;
+            } else if (!identifierPart && start >= 0) {
+                if (Character.isUpperCase(text.charAt(start))) {
+                    identifiers.add(text.substring(start, i));
+                }
+                start = -1;
+            }
+        }
+    }
+
+    @Nonnull
+    private static String typeName(@Nonnull InputFile inputFile) {
+        final String filename = inputFile.filename();
+        return filename.endsWith(JAVA_FILE_SUFFIX)
+                ? filename.substring(0, filename.length() - JAVA_FILE_SUFFIX.length())
+                : filename;
+    }
+
+    @Nullable private static String contents(@Nonnull InputFile inputFile) {
+        try {
+            return inputFile.contents();
+        } catch (IOException e) {
+            LOGGER.warn("Could not read {}: {}", inputFile, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Lists the detections of a scan of the full index that a scan of the prefiltered index did
+     * not find, as {@code <name> at <location>:<line>}.
+     */
+    @Nonnull
+    public static List<String> missedDetections(@Nullable CBOM full, @Nullable CBOM filtered) {
+        final Set<String> found = detections(filtered);
+        return detections(full).stream().filter(d -> !found.contains(d)).sorted().toList();
+    }
+
+    @Nonnull
+    private static Set<String> detections(@Nullable CBOM cbom) {
+        final Set<String> detections = new HashSet<>();
+        final List<Component> components =
+                Optional.ofNullable(cbom)
+                        .map(CBOM::cycloneDXbom)
+                        .map(Bom::getComponents)
+                        .orElse(List.of());
+        for (Component component : components) {
+            if (component.getEvidence() == null
+                    || component.getEvidence().getOccurrences() == null) {
+                continue;
+            }
+            for (Occurrence occurrence : component.getEvidence().getOccurrences()) {
+                detections.add(
+                        component.getName()
+                                + " at "
+                                + occurrence.getLocation()
+                                + ":"
+                                + occurrence.getLine());
+            }
+        }
+        return detections;
+    }
+}
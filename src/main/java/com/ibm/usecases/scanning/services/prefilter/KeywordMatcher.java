@@ -0,0 +1,94 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.prefilter;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Queue;
+
+/**
+ * Finds whether a text contains any of a set of ASCII keywords, in a single pass over the text
+ * (Aho-Corasick automaton).
+ */
+final class KeywordMatcher {
+    private static final int ALPHABET = 128;
+
+    private static final class State {
+        @Nonnull final State[] next = new State[ALPHABET];
+        @Nullable State fallback;
+        boolean match;
+    }
+
+    @Nonnull private final State root = new State();
+
+    KeywordMatcher(@Nonnull Collection<String> keywords) {
+        for (String keyword : keywords) {
+            State state = root;
+            for (char c : keyword.toCharArray()) {
+                if (c >= ALPHABET) {
+                    throw new IllegalArgumentException("Not an ASCII keyword: " + keyword);
+                }
+                if (state.next[c] == null) {
+                    state.next[c] = new State();
+                }
+                state = state.next[c];
+            }
+            state.match = true;
+        }
+        // breadth first, so that the fallback of a state is complete before it is used
+        final Queue<State> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            if (root.next[c] == null) {
+                root.next[c] = root;
+            } else {
+                root.next[c].fallback = root;
+                queue.add(root.next[c]);
+            }
+        }
+        while (!queue.isEmpty()) {
+            final State state = queue.remove();
+            for (int c = 0; c < ALPHABET; c++) {
+                final State child = state.next[c];
+                final State fallbackTarget = state.fallback.next[c];
+                if (child == null) {
+                    state.next[c] = fallbackTarget;
+                } else {
+                    child.fallback = fallbackTarget;
+                    child.match |= fallbackTarget.match;
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    boolean containsAny(@Nonnull CharSequence text) {
+        State state = root;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            state = c < ALPHABET ? state.next[c] : root;
+            if (state.match) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.prefilter;
+
+import com.ibm.usecases.scanning.services.indexing.ProjectModule;
+import jakarta.annotation.Nonnull;
+import java.util.List;
+
+/**
+ * @param modules the modules with the files to scan
+ * @param totalFiles number of indexed files
+ * @param matchedFiles number of files referring to a cryptographic API
+ * @param scannedFiles number of files to scan: the matched files and the files needed to resolve
+ *     their types
+ */
+public record PrefilterResult(
+        @Nonnull List<ProjectModule> modules, int totalFiles, int matchedFiles, int scannedFiles) {
+
+    /** Share of the indexed files that are not scanned. */
+    public double filterRatio() {
+        return totalFiles == 0 ? 0 : 1 - (double) scannedFiles / totalFiles;
+    }
+}
@@ -21,72 +21,156 @@ package com.ibm.usecases.scanning.services.resolve;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.github.packageurl.PackageURL;
 import com.ibm.domain.scanning.GitUrl;
+import com.ibm.infrastructure.scanning.IScanConfiguration;
+import com.ibm.infrastructure.scanning.repositories.PurlResolutionRepository;
+import com.ibm.infrastructure.scanning.repositories.PurlResolutionRepository.PurlResolution;
 import com.ibm.usecases.scanning.errors.PurlResolutionFailed;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.ClassicHttpResponse;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.util.Timeout;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Resolves PURLs to their source repository via deps.dev. One pooled HTTP client is shared by
+ * all scans, and results are cached in the database: resolved PURLs for the configured TTL,
+ * PURLs without a source repository for the (shorter) negative TTL. Failed requests are not
+ * cached.
+ */
+@Singleton
 public class DepsDevService implements PurlResolver {
     private static final Logger LOGGER = LoggerFactory.getLogger(DepsDevService.class);
-    private static final String DEPS_DEV_URI = "https://api.deps.dev/v3alpha/purl/";
     private static final String SOURCE_REPO = "SOURCE_REPO";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_CONNECTIONS = 20;
+
+    @Nonnull private final String endpoint;
+    @Nonnull private final Duration cacheTtl;
+    @Nonnull private final Duration negativeCacheTtl;
+    @Nonnull private final PurlResolutionRepository cache;
+    @Nonnull private final CloseableHttpClient httpClient;
+
+    /** Result of a request, a null source repository means deps.dev does not know one. */
+    private record DepsDevResponse(@Nullable String sourceRepo) {}
 
-    private static final class DepsDevResponseHandler implements HttpClientResponseHandler<String> {
-        @Nullable @Override
-        public String handleResponse(@Nonnull ClassicHttpResponse httpResponse) throws IOException {
+    private static final class DepsDevResponseHandler
+            implements HttpClientResponseHandler<DepsDevResponse> {
+        @Nonnull
+        @Override
+        public DepsDevResponse handleResponse(@Nonnull ClassicHttpResponse httpResponse)
+                throws IOException {
+            if (httpResponse.getCode() == HttpStatus.SC_NOT_FOUND) {
+                return new DepsDevResponse(null);
+            }
             if (httpResponse.getCode() != HttpStatus.SC_OK) {
-                return null;
+                throw new IOException("deps.dev responded with status " + httpResponse.getCode());
             }
-            return extractSourceRepo(httpResponse.getEntity().getContent());
+            return new DepsDevResponse(extractSourceRepo(httpResponse.getEntity().getContent()));
         }
 
-        @Nonnull
-        public String extractSourceRepo(InputStream in) throws IOException {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(in);
-            JsonNode version = rootNode.get("version");
-            if (version != null) {
-                ArrayNode links = (ArrayNode) version.get("links");
-                if (links != null) {
-                    for (JsonNode link : links) {
-                        if (SOURCE_REPO.equals(link.get("label").textValue())) {
-                            return link.get("url").textValue();
-                        }
-                    }
+        @Nullable private static String extractSourceRepo(InputStream in) throws IOException {
+            final JsonNode rootNode = OBJECT_MAPPER.readTree(in);
+            final JsonNode version = rootNode.get("version");
+            if (version == null) {
+                throw new IOException("Invalid deps.dev response");
+            }
+            for (JsonNode link : version.path("links")) {
+                if (SOURCE_REPO.equals(link.path("label").textValue())) {
+                    return link.path("url").textValue();
                 }
             }
-            throw new IOException("Invalid deps.dev response");
+            return null;
         }
     }
 
+    public DepsDevService(
+            @Nonnull IScanConfiguration configuration, @Nonnull PurlResolutionRepository cache) {
+        this.endpoint = configuration.getDepsDevEndpoint();
+        this.cacheTtl = configuration.getPurlResolutionCacheTtl();
+        this.negativeCacheTtl = configuration.getPurlResolutionNegativeCacheTtl();
+        this.cache = cache;
+
+        final Timeout timeout = Timeout.of(configuration.getPurlResolutionTimeout());
+        this.httpClient =
+                HttpClients.custom()
+                        .setConnectionManager(
+                                PoolingHttpClientConnectionManagerBuilder.create()
+                                        .setMaxConnTotal(MAX_CONNECTIONS)
+                                        .setMaxConnPerRoute(MAX_CONNECTIONS)
+                                        .setDefaultConnectionConfig(
+                                                ConnectionConfig.custom()
+                                                        .setConnectTimeout(timeout)
+                                                        .setSocketTimeout(timeout)
+                                                        .build())
+                                        .build())
+                        .setDefaultRequestConfig(
+                                RequestConfig.custom()
+                                        .setConnectionRequestTimeout(timeout)
+                                        .setResponseTimeout(timeout)
+                                        .build())
+                        .build();
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        this.httpClient.close();
+    }
+
     @Nonnull
+    @Override
     public GitUrl resolve(@Nonnull PackageURL purl) throws PurlResolutionFailed {
-        String purlStr = purl.canonicalize();
-        LOGGER.info("Sending DepsDev request for {}", purlStr);
+        final String purlStr = purl.canonicalize();
 
-        final HttpGet request =
-                new HttpGet(DEPS_DEV_URI + URLEncoder.encode(purlStr, StandardCharsets.UTF_8));
+        final Optional<PurlResolution> cached = this.cache.find(purlStr);
+        if (cached.isPresent() && !isExpired(cached.get())) {
+            final String gitUrl = cached.get().gitUrl();
+            if (gitUrl == null) {
+                throw new PurlResolutionFailed(purlStr, "No source repository known (cached)");
+            }
+            LOGGER.info("Using cached git repository {} for purl {}", gitUrl, purlStr);
+            return new GitUrl(gitUrl);
+        }
 
-        try (final CloseableHttpClient httpClient = HttpClientBuilder.create().build()) {
-            final String srcRepo = httpClient.execute(request, new DepsDevResponseHandler());
-            LOGGER.info("Identified git repository {} for purl {}", srcRepo, purlStr);
-            return new GitUrl(srcRepo);
+        LOGGER.info("Sending DepsDev request for {}", purlStr);
+        final HttpGet request =
+                new HttpGet(this.endpoint + URLEncoder.encode(purlStr, StandardCharsets.UTF_8));
+        final DepsDevResponse response;
+        try {
+            response = this.httpClient.execute(request, new DepsDevResponseHandler());
         } catch (IOException ioe) {
             throw new PurlResolutionFailed(purlStr, ioe.getMessage());
         }
+
+        this.cache.save(purlStr, response.sourceRepo());
+        if (response.sourceRepo() == null) {
+            throw new PurlResolutionFailed(purlStr, "No source repository known");
+        }
+        LOGGER.info("Identified git repository {} for purl {}", response.sourceRepo(), purlStr);
+        return new GitUrl(response.sourceRepo());
+    }
+
+    private boolean isExpired(@Nonnull PurlResolution resolution) {
+        final Duration ttl = resolution.gitUrl() == null ? this.negativeCacheTtl : this.cacheTtl;
+        return resolution.resolvedAt().plus(ttl).isBefore(Instant.now());
     }
 }
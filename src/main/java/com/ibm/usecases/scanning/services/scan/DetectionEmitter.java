@@ -0,0 +1,130 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.scan;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.infrastructure.progress.IProgressDispatcher;
+import com.ibm.infrastructure.progress.ProgressMessage;
+import com.ibm.infrastructure.progress.ProgressMessageType;
+import com.ibm.mapper.model.INode;
+import com.ibm.output.cyclondx.CBOMOutputFileFactory;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.cyclonedx.model.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streams detections to the client as {@link ProgressMessageType#DETECTION} messages. Detections
+ * are converted, normalized and serialized on the scanning thread and sent by a separate thread,
+ * so that scanning does not wait for the client to receive each message. The queue in between is
+ * bounded, so a slow client slows the scan down instead of filling the heap. Sending stops when
+ * the client disconnected.
+ */
+final class DetectionEmitter implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DetectionEmitter.class);
+    private static final ObjectWriter COMPONENT_WRITER =
+            new ObjectMapper().writerFor(Component.class);
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private record Detection(@Nonnull String json) {}
+
+    private static final Detection END_OF_STREAM = new Detection("");
+
+    @Nonnull private final IProgressDispatcher progressDispatcher;
+    @Nonnull private final String projectDirectoryPrefix;
+    @Nonnull private final CBOMOutputFileFactory fileFactory;
+    @Nonnull private final BlockingQueue<Detection> queue;
+    @Nullable private Thread sender;
+    private volatile boolean disconnected;
+
+    DetectionEmitter(
+            @Nonnull IProgressDispatcher progressDispatcher,
+            @Nonnull String projectDirectoryPrefix) {
+        this.progressDispatcher = progressDispatcher;
+        this.projectDirectoryPrefix = projectDirectoryPrefix;
+        this.fileFactory = new CBOMOutputFileFactory();
+        this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    }
+
+    synchronized void emit(@Nonnull List<INode> nodes) {
+        if (disconnected) {
+            return;
+        }
+        if (sender == null) {
+            sender = Thread.ofVirtual().name("detection-emitter").start(this::send);
+        }
+        for (Component component :
+                fileFactory.createOutputFormat(nodes).getBom().getComponents()) {
+            ScannerService.sanitizeOccurrence(projectDirectoryPrefix, component);
+            try {
+                queue.put(new Detection(COMPONENT_WRITER.writeValueAsString(component)));
+            } catch (JsonProcessingException e) {
+                LOGGER.error(e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void send() {
+        try {
+            Detection detection;
+            while ((detection = queue.take()) != END_OF_STREAM) {
+                if (disconnected) {
+                    continue; // drain, so that emit and close do not block
+                }
+                try {
+                    progressDispatcher.send(
+                            new ProgressMessage(ProgressMessageType.DETECTION, detection.json()));
+                } catch (ClientDisconnected e) {
+                    LOGGER.warn("Stop streaming detections: {}", e.getMessage());
+                    disconnected = true;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Waits until all detections emitted so far are sent. */
+    @Override
+    public synchronized void close() {
+        if (sender == null) {
+            return;
+        }
+        try {
+            queue.put(END_OF_STREAM);
+            sender.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sender.interrupt();
+        } finally {
+            sender = null;
+        }
+    }
+}
@@ -19,29 +19,20 @@
  */
 package com.ibm.usecases.scanning.services.scan;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ibm.domain.scanning.Commit;
 import com.ibm.domain.scanning.GitUrl;
 import com.ibm.domain.scanning.Revision;
-import com.ibm.infrastructure.errors.ClientDisconnected;
 import com.ibm.infrastructure.progress.IProgressDispatcher;
-import com.ibm.infrastructure.progress.ProgressMessage;
-import com.ibm.infrastructure.progress.ProgressMessageType;
 import com.ibm.mapper.model.INode;
-import com.ibm.output.IOutputFileFactory;
 import com.ibm.output.cyclondx.CBOMOutputFile;
-import com.ibm.output.cyclondx.CBOMOutputFileFactory;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.io.File;
 import java.nio.file.Path;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.cyclonedx.model.Bom;
 import org.cyclonedx.model.Component;
-import org.cyclonedx.model.Evidence;
 import org.cyclonedx.model.Metadata;
 import org.cyclonedx.model.Property;
 import org.cyclonedx.model.component.evidence.Occurrence;
@@ -54,12 +45,21 @@ public abstract class ScannerService implements IScannerService {
     @Nonnull protected final IProgressDispatcher progressDispatcher;
     @Nonnull protected final File projectDirectory;
     @Nonnull protected final CBOMOutputFile cbomOutputFile;
+    @Nullable private final DetectionEmitter detectionEmitter;
 
     protected ScannerService(
-            @Nonnull IProgressDispatcher progressDispatcher, @Nonnull File projectDirectory) {
+            @Nonnull IProgressDispatcher progressDispatcher,
+            @Nonnull File projectDirectory,
+            boolean streamDetections) {
         this.progressDispatcher = progressDispatcher;
         this.projectDirectory = projectDirectory;
         this.cbomOutputFile = new CBOMOutputFile();
+        this.detectionEmitter =
+                streamDetections
+                        ? new DetectionEmitter(
+                                progressDispatcher,
+                                projectDirectory.getAbsolutePath() + File.separator)
+                        : null;
     }
 
     @Override
@@ -67,24 +67,16 @@ public abstract class ScannerService implements IScannerService {
         synchronized (this) {
             this.cbomOutputFile.add(nodes);
         }
-        // emit
-        final CBOMOutputFileFactory fileFactory = new CBOMOutputFileFactory();
-        final CBOMOutputFile componentAsCBOM = fileFactory.createOutputFormat(nodes);
-        componentAsCBOM
-                .getBom()
-                .getComponents()
-                .forEach(
-                        component -> {
-                            sanitizeOccurrence(this.projectDirectory, component);
-                            try {
-                                this.progressDispatcher.send(
-                                        new ProgressMessage(
-                                                ProgressMessageType.DETECTION,
-                                                new ObjectMapper().writeValueAsString(component)));
-                            } catch (JsonProcessingException | ClientDisconnected e) {
-                                LOGGER.error(e.getMessage());
-                            }
-                        });
+        if (this.detectionEmitter != null) {
+            this.detectionEmitter.emit(nodes);
+        }
+    }
+
+    /** Waits until all detections are sent, must be called when a scan ends. */
+    protected void finishDetectionStreaming() {
+        if (this.detectionEmitter != null) {
+            this.detectionEmitter.close();
+        }
     }
 
     @Nonnull
@@ -95,9 +87,13 @@ public abstract class ScannerService implements IScannerService {
             @Nonnull Commit commit,
             @Nullable Path packageFolder) {
 
+        // send the remaining detections before the result
+        finishDetectionStreaming();
+
         final Bom bom = this.cbomOutputFile.getBom();
         // sanitizeOccurrence
-        bom.getComponents().forEach(component -> sanitizeOccurrence(projectDirectory, component));
+        final String prefix = projectDirectory.getAbsolutePath() + File.separator;
+        bom.getComponents().forEach(component -> sanitizeOccurrence(prefix, component));
         // add metadata
         final Metadata metadata = new Metadata();
 
@@ -124,31 +120,20 @@ public abstract class ScannerService implements IScannerService {
         }
 
         bom.setMetadata(metadata);
-        // reset scanner
-        final com.ibm.plugin.ScannerManager scannerMgr =
-                new com.ibm.plugin.ScannerManager(IOutputFileFactory.DEFAULT);
-        scannerMgr.reset();
-
         return Optional.of(bom);
     }
 
+    /** Makes the occurrence locations relative to the project directory (given with separator). */
     static void sanitizeOccurrence(
-            @Nonnull final File projectDirectory, @Nonnull Component component) {
-        List<Occurrence> occurrenceList =
-                Optional.ofNullable(component.getEvidence())
-                        .map(Evidence::getOccurrences)
-                        .orElse(Collections.emptyList());
-
-        if (occurrenceList.isEmpty()) {
+            @Nonnull final String projectDirectoryPrefix, @Nonnull Component component) {
+        if (component.getEvidence() == null || component.getEvidence().getOccurrences() == null) {
             return;
         }
-        final String baseDirPath = projectDirectory.getAbsolutePath();
-        occurrenceList.forEach(
-                occurrence -> {
-                    if (occurrence.getLocation().startsWith(baseDirPath)) {
-                        occurrence.setLocation(
-                                occurrence.getLocation().substring(baseDirPath.length() + 1));
-                    }
-                });
+        for (Occurrence occurrence : component.getEvidence().getOccurrences()) {
+            final String location = occurrence.getLocation();
+            if (location != null && location.startsWith(projectDirectoryPrefix)) {
+                occurrence.setLocation(location.substring(projectDirectoryPrefix.length()));
+            }
+        }
     }
 }
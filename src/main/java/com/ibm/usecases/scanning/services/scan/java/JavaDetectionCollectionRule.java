@@ -20,6 +20,11 @@
 package com.ibm.usecases.scanning.services.scan.java;
 
 import com.ibm.engine.detection.Finding;
+import com.ibm.engine.executive.DetectionExecutive;
+import com.ibm.engine.language.ILanguageSupport;
+import com.ibm.engine.language.LanguageSupporter;
+import com.ibm.engine.language.java.JavaScanContext;
+import com.ibm.engine.rule.IDetectionRule;
 import com.ibm.mapper.model.INode;
 import com.ibm.plugin.rules.JavaInventoryRule;
 import jakarta.annotation.Nonnull;
@@ -30,16 +35,37 @@ import org.sonar.plugins.java.api.JavaFileScannerContext;
 import org.sonar.plugins.java.api.semantic.Symbol;
 import org.sonar.plugins.java.api.tree.Tree;
 
+/**
+ * Collects the detections of one scan. The base rule keeps its detection state in static fields
+ * of the plugin, which are shared by all scans of the JVM and reset after each of them. This rule
+ * keeps its own language support (and with it the hooks of the detection engine) and hands the
+ * translated nodes only to its consumer, so that scans can run concurrently.
+ */
 public class JavaDetectionCollectionRule extends JavaInventoryRule {
     private final Consumer<List<INode>> handler;
 
+    @Nonnull
+    private final ILanguageSupport<JavaCheck, Tree, Symbol, JavaFileScannerContext> languageSupport;
+
     public JavaDetectionCollectionRule(@Nonnull Consumer<List<INode>> findingConsumer) {
         this.handler = findingConsumer;
+        this.languageSupport = LanguageSupporter.javaLanguageSupporter();
+    }
+
+    @Override
+    public void visitNode(@Nonnull Tree tree) {
+        for (IDetectionRule<Tree> rule : detectionRules) {
+            final DetectionExecutive<JavaCheck, Tree, Symbol, JavaFileScannerContext> executive =
+                    languageSupport.createDetectionExecutive(
+                            tree, rule, new JavaScanContext(this.context));
+            executive.subscribe(this);
+            executive.start();
+        }
     }
 
     @Override
     public void update(@Nonnull Finding<JavaCheck, Tree, Symbol, JavaFileScannerContext> finding) {
-        super.update(finding);
+        // not passed to the base rule, which adds the nodes to the static aggregator
         final List<INode> nodes = javaTranslationProcess.initiate(finding.detectionStore());
         handler.accept(nodes);
     }
@@ -0,0 +1,112 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.scan.java;
+
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The library JARs used to resolve types while scanning java projects, shared by all scans.
+ *
+ * <p>The JARs in {@code cbomkit.scanning.java-jar-dir} do not change while the service runs, so
+ * they are listed once and passed to every scan as an explicit file list instead of a directory
+ * that is walked again for each scan. Each JAR is also kept open: the JDK shares the parsed
+ * central directory of a zip file between all {@link ZipFile} instances opened on it, so the
+ * parser of each scan reuses that index instead of reading it again from disk.
+ */
+public final class JavaLibraryClasspath {
+    private static final Logger LOGGER = LoggerFactory.getLogger(JavaLibraryClasspath.class);
+    private static final Map<String, JavaLibraryClasspath> CLASSPATHS = new ConcurrentHashMap<>();
+
+    @Nonnull private final String librariesProperty;
+    @Nonnull private final List<ZipFile> openJars;
+
+    private JavaLibraryClasspath(
+            @Nonnull String librariesProperty, @Nonnull List<ZipFile> openJars) {
+        this.librariesProperty = librariesProperty;
+        this.openJars = openJars;
+    }
+
+    /** Returns the classpath for the given JAR directory, loading it on first use. */
+    @Nonnull
+    public static JavaLibraryClasspath of(@Nonnull String javaDependencyJARSPath) {
+        return CLASSPATHS.computeIfAbsent(javaDependencyJARSPath, JavaLibraryClasspath::load);
+    }
+
+    /** Value for {@code sonar.java.libraries}. */
+    @Nonnull
+    public String librariesProperty() {
+        return librariesProperty;
+    }
+
+    public int size() {
+        return openJars.size();
+    }
+
+    @Nonnull
+    private static JavaLibraryClasspath load(@Nonnull String javaDependencyJARSPath) {
+        final long start = System.currentTimeMillis();
+        final Path directory = Path.of(javaDependencyJARSPath);
+        final List<Path> jars;
+        try (Stream<Path> files = Files.walk(directory)) {
+            jars =
+                    files.filter(Files::isRegularFile)
+                            .filter(file -> file.getFileName().toString().endsWith(".jar"))
+                            .map(Path::toAbsolutePath)
+                            .sorted()
+                            .toList();
+        } catch (IOException e) {
+            LOGGER.warn("Could not list java libraries in {}: {}", directory, e.getMessage());
+            // let the scanner report the missing libraries as before
+            return new JavaLibraryClasspath(javaDependencyJARSPath, List.of());
+        }
+
+        final List<ZipFile> openJars = new ArrayList<>(jars.size());
+        final List<String> readableJars = new ArrayList<>(jars.size());
+        for (Path jar : jars) {
+            try {
+                openJars.add(new ZipFile(jar.toFile()));
+                readableJars.add(jar.toString());
+            } catch (IOException e) {
+                LOGGER.warn("Skipping unreadable java library {}: {}", jar, e.getMessage());
+            }
+        }
+        if (readableJars.isEmpty()) {
+            return new JavaLibraryClasspath(javaDependencyJARSPath, List.of());
+        }
+        LOGGER.info(
+                "Loaded {} java libraries from {} in {} ms",
+                readableJars.size(),
+                directory,
+                System.currentTimeMillis() - start);
+        return new JavaLibraryClasspath(
+                String.join(",", readableJars), List.copyOf(openJars));
+    }
+}
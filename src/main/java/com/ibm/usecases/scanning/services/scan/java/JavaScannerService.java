@@ -53,6 +53,25 @@ import org.sonar.plugins.java.api.JavaVersion;
 public final class JavaScannerService extends ScannerService {
     private static final JavaVersion JAVA_VERSION =
             new JavaVersionImpl(JavaVersionImpl.MAX_SUPPORTED);
+    // line metrics are not used, one no-op factory is shared by all scans
+    private static final FileLinesContextFactory FILE_LINES_CONTEXT_FACTORY =
+            inputFile ->
+                    new FileLinesContext() {
+                        @Override
+                        public void setIntValue(@Nonnull String s, int i, int i1) {
+                            // nothing
+                        }
+
+                        @Override
+                        public void setStringValue(@Nonnull String s, int i, @Nonnull String s1) {
+                            // nothing
+                        }
+
+                        @Override
+                        public void save() {
+                            // nothing
+                        }
+                    };
 
     @Nonnull private final String getJavaDependencyJARSPath;
 
@@ -60,85 +79,105 @@ public final class JavaScannerService extends ScannerService {
             @Nonnull IProgressDispatcher progressDispatcher,
             @Nonnull String getJavaDependencyJARSPath,
             @Nonnull File projectDirectory) {
-        super(progressDispatcher, projectDirectory);
+        this(progressDispatcher, getJavaDependencyJARSPath, projectDirectory, true);
+    }
+
+    /**
+     * @param streamDetections whether each detection is sent as progress message while scanning
+     */
+    public JavaScannerService(
+            @Nonnull IProgressDispatcher progressDispatcher,
+            @Nonnull String getJavaDependencyJARSPath,
+            @Nonnull File projectDirectory,
+            boolean streamDetections) {
+        super(progressDispatcher, projectDirectory, streamDetections);
         this.getJavaDependencyJARSPath = getJavaDependencyJARSPath;
     }
 
     @Override
     @Nonnull
-    public synchronized ScanResultDTO scan(
+    public ScanResultDTO scan(
             @Nonnull GitUrl gitUrl,
             @Nonnull Revision revision,
             @Nonnull Commit commit,
             @Nullable Path packageFolder,
             @Nonnull List<ProjectModule> index)
             throws ClientDisconnected {
-        final File targetJarClasses = new File(this.projectDirectory, "target/classes");
-        if (!targetJarClasses.exists()) {
-            this.progressDispatcher.send(
-                    new ProgressMessage(
-                            ProgressMessageType.WARNING,
-                            "No target folder found in java project. This reduces the accuracy of the findings."));
-        }
+        try {
+            final File targetJarClasses = new File(this.projectDirectory, "target/classes");
+            if (!targetJarClasses.exists()) {
+                this.progressDispatcher.send(
+                        new ProgressMessage(
+                                ProgressMessageType.WARNING,
+                                "No target folder found in java project. This reduces the accuracy of the findings."));
+            }
 
-        final SensorContextTester sensorContext = SensorContextTester.create(this.projectDirectory);
-        sensorContext.setSettings(
-                new MapSettings()
-                        .setProperty(SonarComponents.SONAR_BATCH_MODE_KEY, true)
-                        .setProperty("sonar.java.libraries", this.getJavaDependencyJARSPath)
-                        .setProperty(
-                                "sonar.java.binaries",
-                                new File(this.projectDirectory, "target/classes").toString())
-                        .setProperty(SonarComponents.SONAR_AUTOSCAN, false)
-                        .setProperty(SonarComponents.SONAR_BATCH_SIZE_KEY, 8 * 1024 * 1024));
-        final DefaultFileSystem fileSystem = sensorContext.fileSystem();
-        final ClasspathForMain classpathForMain =
-                new ClasspathForMain(sensorContext.config(), fileSystem);
-        final ClasspathForTest classpathForTest =
-                new ClasspathForTest(sensorContext.config(), fileSystem);
-        final SonarComponents sonarComponents =
-                getSonarComponents(fileSystem, classpathForMain, classpathForTest);
-        sonarComponents.setSensorContext(sensorContext);
-        LOGGER.info("Start scanning {} java projects", index.size());
+            final JavaLibraryClasspath libraries =
+                    JavaLibraryClasspath.of(this.getJavaDependencyJARSPath);
+            final SensorContextTester sensorContext =
+                    SensorContextTester.create(this.projectDirectory);
+            sensorContext.setSettings(
+                    new MapSettings()
+                            .setProperty(SonarComponents.SONAR_BATCH_MODE_KEY, true)
+                            .setProperty("sonar.java.libraries", libraries.librariesProperty())
+                            .setProperty(
+                                    "sonar.java.binaries",
+                                    new File(this.projectDirectory, "target/classes").toString())
+                            .setProperty(SonarComponents.SONAR_AUTOSCAN, false)
+                            .setProperty(SonarComponents.SONAR_BATCH_SIZE_KEY, 8 * 1024 * 1024));
+            final DefaultFileSystem fileSystem = sensorContext.fileSystem();
+            final ClasspathForMain classpathForMain =
+                    new ClasspathForMain(sensorContext.config(), fileSystem);
+            final ClasspathForTest classpathForTest =
+                    new ClasspathForTest(sensorContext.config(), fileSystem);
+            final SonarComponents sonarComponents =
+                    getSonarComponents(fileSystem, classpathForMain, classpathForTest);
+            sonarComponents.setSensorContext(sensorContext);
+            LOGGER.info("Start scanning {} java projects", index.size());
 
-        final JavaResourceLocator javaResourceLocator =
-                new DefaultJavaResourceLocator(classpathForMain, classpathForTest);
-        final JavaFrontend javaFrontend =
-                new JavaFrontend(
-                        JAVA_VERSION,
-                        sonarComponents,
-                        null,
-                        javaResourceLocator,
-                        null,
-                        new JavaDetectionCollectionRule(this));
+            final JavaResourceLocator javaResourceLocator =
+                    new DefaultJavaResourceLocator(classpathForMain, classpathForTest);
+            final JavaFrontend javaFrontend =
+                    new JavaFrontend(
+                            JAVA_VERSION,
+                            sonarComponents,
+                            null,
+                            javaResourceLocator,
+                            null,
+                            new JavaDetectionCollectionRule(this));
 
-        long scanTimeStart = System.currentTimeMillis();
-        int counter = 1;
-        int numberOfScannedLines = 0;
-        int numberOfScannedFiles = 0;
-        for (ProjectModule project : index) {
-            numberOfScannedFiles += project.inputFileList().size();
-            numberOfScannedLines +=
-                    project.inputFileList().stream().map(InputFile::lines).reduce(0, Integer::sum);
+            long scanTimeStart = System.currentTimeMillis();
+            int counter = 1;
+            int numberOfScannedLines = 0;
+            int numberOfScannedFiles = 0;
+            for (ProjectModule project : index) {
+                numberOfScannedFiles += project.inputFileList().size();
+                numberOfScannedLines +=
+                        project.inputFileList().stream()
+                                .map(InputFile::lines)
+                                .reduce(0, Integer::sum);
 
-            final String projectStr =
-                    project.identifier() + " (" + counter + "/" + index.size() + ")";
-            this.progressDispatcher.send(
-                    new ProgressMessage(
-                            ProgressMessageType.LABEL, "Scanning project " + projectStr));
+                final String projectStr =
+                        project.identifier() + " (" + counter + "/" + index.size() + ")";
+                this.progressDispatcher.send(
+                        new ProgressMessage(
+                                ProgressMessageType.LABEL, "Scanning project " + projectStr));
 
-            javaFrontend.scan(project.inputFileList(), List.of(), List.of());
-            counter++;
-        }
+                javaFrontend.scan(project.inputFileList(), List.of(), List.of());
+                counter++;
+            }
 
-        return new ScanResultDTO(
-                scanTimeStart,
-                System.currentTimeMillis(),
-                numberOfScannedLines,
-                numberOfScannedFiles,
-                this.receiveBom(projectDirectory, gitUrl, revision, commit, packageFolder)
-                        .map(CBOM::new)
-                        .orElse(null));
+            return new ScanResultDTO(
+                    scanTimeStart,
+                    System.currentTimeMillis(),
+                    numberOfScannedLines,
+                    numberOfScannedFiles,
+                    this.receiveBom(projectDirectory, gitUrl, revision, commit, packageFolder)
+                            .map(CBOM::new)
+                            .orElse(null));
+        } finally {
+            finishDetectionStreaming();
+        }
     }
 
     @Nonnull
@@ -146,27 +185,8 @@ public final class JavaScannerService extends ScannerService {
             DefaultFileSystem fileSystem,
             ClasspathForMain classpathForMain,
             ClasspathForTest classpathForTest) {
-        final FileLinesContextFactory fileLinesContextFactory =
-                inputFile ->
-                        new FileLinesContext() {
-                            @Override
-                            public void setIntValue(@Nonnull String s, int i, int i1) {
-                                // nothing
-                            }
-
-                            @Override
-                            public void setStringValue(
-                                    @Nonnull String s, int i, @Nonnull String s1) {
-                                // nothing
-                            }
-
-                            @Override
-                            public void save() {
-                                // nothing
-                            }
-                        };
         return new SonarComponents(
-                fileLinesContextFactory,
+                FILE_LINES_CONTEXT_FACTORY,
                 fileSystem,
                 classpathForMain,
                 classpathForTest,
@@ -20,6 +20,11 @@
 package com.ibm.usecases.scanning.services.scan.python;
 
 import com.ibm.engine.detection.Finding;
+import com.ibm.engine.executive.DetectionExecutive;
+import com.ibm.engine.language.ILanguageSupport;
+import com.ibm.engine.language.LanguageSupporter;
+import com.ibm.engine.language.python.PythonScanContext;
+import com.ibm.engine.rule.IDetectionRule;
 import com.ibm.mapper.model.INode;
 import com.ibm.plugin.rules.PythonInventoryRule;
 import jakarta.annotation.Nonnull;
@@ -28,18 +33,41 @@ import java.util.function.Consumer;
 import org.sonar.plugins.python.api.PythonCheck;
 import org.sonar.plugins.python.api.PythonVisitorContext;
 import org.sonar.plugins.python.api.symbols.Symbol;
+import org.sonar.plugins.python.api.tree.CallExpression;
 import org.sonar.plugins.python.api.tree.Tree;
 
+/**
+ * Collects the detections of one scan, with its own language support instead of the static one of
+ * the plugin (see {@code JavaDetectionCollectionRule}).
+ */
 public class PythonDetectionCollectionRule extends PythonInventoryRule {
     private final Consumer<List<INode>> handler;
 
+    @Nonnull
+    private final ILanguageSupport<PythonCheck, Tree, Symbol, PythonVisitorContext> languageSupport;
+
     public PythonDetectionCollectionRule(@Nonnull Consumer<List<INode>> findingConsumer) {
         this.handler = findingConsumer;
+        this.languageSupport = LanguageSupporter.pythonLanguageSupporter();
+    }
+
+    @Override
+    public void visitCallExpression(@Nonnull CallExpression callExpression) {
+        for (IDetectionRule<Tree> rule : detectionRules) {
+            final DetectionExecutive<PythonCheck, Tree, Symbol, PythonVisitorContext> executive =
+                    languageSupport.createDetectionExecutive(
+                            callExpression, rule, new PythonScanContext(this.getContext()));
+            executive.subscribe(this);
+            executive.start();
+        }
+        // continue with the nested expressions, as the tree visitor does
+        scan(callExpression.callee());
+        scan(callExpression.argumentList());
     }
 
     @Override
     public void update(@Nonnull Finding<PythonCheck, Tree, Symbol, PythonVisitorContext> finding) {
-        super.update(finding);
+        // not passed to the base rule, which adds the nodes to the static aggregator
         final List<INode> nodes = pythonTranslationProcess.initiate(finding.detectionStore());
         handler.accept(nodes);
     }
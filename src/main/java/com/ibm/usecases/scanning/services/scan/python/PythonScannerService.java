@@ -44,7 +44,17 @@ public final class PythonScannerService extends ScannerService {
 
     public PythonScannerService(
             @Nonnull IProgressDispatcher progressDispatcher, @Nonnull File projectDirectory) {
-        super(progressDispatcher, projectDirectory);
+        this(progressDispatcher, projectDirectory, true);
+    }
+
+    /**
+     * @param streamDetections whether each detection is sent as progress message while scanning
+     */
+    public PythonScannerService(
+            @Nonnull IProgressDispatcher progressDispatcher,
+            @Nonnull File projectDirectory,
+            boolean streamDetections) {
+        super(progressDispatcher, projectDirectory, streamDetections);
     }
 
     @Override
@@ -55,46 +65,53 @@ public final class PythonScannerService extends ScannerService {
             @Nullable Path packageFolder,
             @Nonnull List<ProjectModule> index)
             throws ClientDisconnected {
-        final PythonCheck visitor = new PythonDetectionCollectionRule(this);
+        try {
+            final PythonCheck visitor = new PythonDetectionCollectionRule(this);
 
-        LOGGER.info("Start scanning {} python projects", index.size());
+            LOGGER.info("Start scanning {} python projects", index.size());
 
-        long scanTimeStart = System.currentTimeMillis();
-        int counter = 1;
-        int numberOfScannedLines = 0;
-        int numberOfScannedFiles = 0;
-        for (ProjectModule project : index) {
-            numberOfScannedFiles += project.inputFileList().size();
-            numberOfScannedLines +=
-                    project.inputFileList().stream().map(InputFile::lines).reduce(0, Integer::sum);
+            long scanTimeStart = System.currentTimeMillis();
+            int counter = 1;
+            int numberOfScannedLines = 0;
+            int numberOfScannedFiles = 0;
+            for (ProjectModule project : index) {
+                numberOfScannedFiles += project.inputFileList().size();
+                numberOfScannedLines +=
+                        project.inputFileList().stream()
+                                .map(InputFile::lines)
+                                .reduce(0, Integer::sum);
 
-            final String projectStr =
-                    project.identifier() + " (" + counter + "/" + index.size() + ")";
-            this.progressDispatcher.send(
-                    new ProgressMessage(
-                            ProgressMessageType.LABEL, "Scanning project " + projectStr));
+                final String projectStr =
+                        project.identifier() + " (" + counter + "/" + index.size() + ")";
+                this.progressDispatcher.send(
+                        new ProgressMessage(
+                                ProgressMessageType.LABEL, "Scanning project " + projectStr));
 
-            for (InputFile inputFile : project.inputFileList()) {
-                final PythonScannableFile pythonScannableFile = new PythonScannableFile(inputFile);
-                final FileInput parsedFile = pythonScannableFile.parse();
-                final PythonVisitorContext context =
-                        new PythonVisitorContext(
-                                parsedFile,
-                                pythonScannableFile,
-                                this.projectDirectory,
-                                project.identifier());
-                visitor.scanFile(context);
+                for (InputFile inputFile : project.inputFileList()) {
+                    final PythonScannableFile pythonScannableFile =
+                            new PythonScannableFile(inputFile);
+                    final FileInput parsedFile = pythonScannableFile.parse();
+                    final PythonVisitorContext context =
+                            new PythonVisitorContext(
+                                    parsedFile,
+                                    pythonScannableFile,
+                                    this.projectDirectory,
+                                    project.identifier());
+                    visitor.scanFile(context);
+                }
+                counter++;
             }
-            counter++;
-        }
 
-        return new ScanResultDTO(
-                scanTimeStart,
-                System.currentTimeMillis(),
-                numberOfScannedLines,
-                numberOfScannedFiles,
-                this.receiveBom(projectDirectory, gitUrl, revision, commit, packageFolder)
-                        .map(CBOM::new)
-                        .orElse(null));
+            return new ScanResultDTO(
+                    scanTimeStart,
+                    System.currentTimeMillis(),
+                    numberOfScannedLines,
+                    numberOfScannedFiles,
+                    this.receiveBom(projectDirectory, gitUrl, revision, commit, packageFolder)
+                            .map(CBOM::new)
+                            .orElse(null));
+        } finally {
+            finishDetectionStreaming();
+        }
     }
 }
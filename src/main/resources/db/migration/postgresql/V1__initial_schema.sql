@@ -0,0 +1,70 @@
+-- Schema of the read and write models, as previously generated by hibernate.
+-- All statements are idempotent, so that databases created by hibernate can be migrated as well.
+
+create table if not exists cbomread_model (
+    id uuid not null,
+    bom jsonb,
+    commit varchar(255),
+    created_at timestamp(6),
+    package_folder varchar(255),
+    project_identifier varchar(255),
+    repository varchar(255),
+    revision varchar(255),
+    primary key (id)
+);
+
+alter table cbomread_model add column if not exists number_of_components integer;
+
+create table if not exists crypto_asset (
+    id uuid not null,
+    asset_type varchar(255),
+    bom_ref varchar(255),
+    cbom_id uuid,
+    commit varchar(255),
+    curve varchar(255),
+    key_size integer,
+    name varchar(255),
+    oid varchar(255),
+    primitive varchar(255),
+    project_identifier varchar(255),
+    repository varchar(255),
+    primary key (id)
+);
+
+create table if not exists stored_policy (
+    id varchar(255) not null,
+    created_at timestamp(6),
+    name varchar(255),
+    toml text,
+    primary key (id)
+);
+
+create table if not exists scan (
+    id uuid not null,
+    commit_hash varchar(255),
+    git_url varchar(255),
+    package_folder varchar(255),
+    purl varchar(255),
+    revision varchar(255),
+    primary key (id)
+);
+
+create sequence if not exists scan_result_seq start with 1 increment by 50;
+
+create table if not exists scan_result (
+    id bigint not null,
+    cbom jsonb,
+    end_time timestamp(6),
+    language smallint check (language between 0 and 1),
+    number_of_scanned_files integer not null,
+    number_of_scanned_lines integer not null,
+    start_time timestamp(6),
+    primary key (id)
+);
+
+create table if not exists scan_scan_result (
+    scan_id uuid not null,
+    scan_results_id bigint not null unique,
+    constraint fk_scan_scan_result_scan foreign key (scan_id) references scan,
+    constraint fk_scan_scan_result_result foreign key (scan_results_id) references scan_result
+);
@@ -0,0 +1,32 @@
+-- Indexes matching the queries of the repositories.
+
+-- CBOMReadRepository.findByRepository: repository [+ commit] [+ package folder], latest first
+create index if not exists idx_cbom_repository_created on cbomread_model (repository, created_at desc);
+create index if not exists idx_cbom_repository_commit on cbomread_model (repository, commit, package_folder);
+
+-- CBOMReadRepository.findByProjectIdentifier: project identifier [+ commit], latest first
+create index if not exists idx_cbom_project_created on cbomread_model (project_identifier, created_at desc);
+create index if not exists idx_cbom_project_commit on cbomread_model (project_identifier, commit);
+
+-- CBOMReadRepository.findIdsByProjectIdentifierPrefix: LIKE 'prefix%'
+create index if not exists idx_cbom_project_prefix on cbomread_model (project_identifier varchar_pattern_ops);
+
+-- CBOMReadRepository.getSummaries: keyset pagination over (created_at, id)
+create index if not exists idx_cbom_created_at_id on cbomread_model (created_at desc, id desc);
+
+-- CryptoAssetReadRepository: replace/delete by CBOM and the inventory filters
+create index if not exists idx_crypto_asset_cbom on crypto_asset (cbom_id);
+create index if not exists idx_crypto_asset_name on crypto_asset (name, project_identifier);
+create index if not exists idx_crypto_asset_oid on crypto_asset (oid);
+create index if not exists idx_crypto_asset_primitive on crypto_asset (primitive, key_size);
+create index if not exists idx_crypto_asset_curve on crypto_asset (curve);
+create index if not exists idx_crypto_asset_type on crypto_asset (asset_type);
+create index if not exists idx_crypto_asset_project on crypto_asset (project_identifier);
+
+-- ScanRepository: the scan results are loaded eagerly with their scan
+create index if not exists idx_scan_scan_result_scan on scan_scan_result (scan_id);
+
+-- CBOMs stored before the number of components was kept with the read model
+update cbomread_model
+set number_of_components = jsonb_array_length(bom -> 'components')
+where number_of_components is null and jsonb_typeof(bom -> 'components') = 'array';
@@ -0,0 +1,7 @@
+-- Cache of PURLs resolved via deps.dev (DepsDevService), git_url is null if no repository is known.
+create table if not exists resolved_purl (
+    purl text not null,
+    git_url text,
+    resolved_at timestamp(6),
+    primary key (purl)
+);
@@ -0,0 +1,2 @@
+-- Per-stage timings of a scan (ScanRepository.saveStageTimings)
+alter table scan add column if not exists stage_timings jsonb;
@@ -0,0 +1,11 @@
+-- Crypto assets are deleted together with their CBOM, also when the backfill races with a new scan
+delete from crypto_asset a where not exists (select 1 from cbomread_model r where r.id = a.cbom_id);
+alter table crypto_asset drop constraint if exists fk_crypto_asset_cbom;
+alter table crypto_asset
+    add constraint fk_crypto_asset_cbom foreign key (cbom_id) references cbomread_model on delete cascade;
+
+-- CBOMProjector: CBOMs whose crypto assets were indexed, including CBOMs without any asset
+alter table cbomread_model add column if not exists crypto_assets_indexed boolean not null default false;
+update cbomread_model r
+set crypto_assets_indexed = true
+where exists (select 1 from crypto_asset a where a.cbom_id = r.id);
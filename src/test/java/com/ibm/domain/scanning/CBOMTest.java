@@ -0,0 +1,160 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.domain.scanning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
+import java.util.ArrayList;
+import java.util.List;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Dependency;
+import org.cyclonedx.model.Evidence;
+import org.cyclonedx.model.component.crypto.CryptoProperties;
+import org.cyclonedx.model.component.crypto.RelatedCryptoMaterialProperties;
+import org.cyclonedx.model.component.crypto.enums.AssetType;
+import org.cyclonedx.model.component.evidence.Occurrence;
+import org.junit.jupiter.api.Test;
+
+class CBOMTest {
+
+    @Test
+    void mergeUnitesDuplicateComponents() throws CBOMSerializationFailed {
+        final CBOM java =
+                cbom(
+                        List.of(
+                                algorithm("aes-1", "AES", "Crypto.java", 10),
+                                algorithm("key-1", "key", "Crypto.java", 11)),
+                        List.of(dependency("key-1", "aes-1")));
+        final CBOM python =
+                cbom(
+                        List.of(
+                                algorithm("aes-2", "AES", "crypto.py", 4),
+                                algorithm("aes-1", "AES", "Crypto.java", 10),
+                                algorithm("sha-2", "SHA256", "crypto.py", 7)),
+                        List.of(dependency("sha-2", "aes-2"), dependency("key-1", "aes-2")));
+
+        java.merge(python);
+
+        final List<Component> components = java.cycloneDXbom().getComponents();
+        assertThat(components)
+                .extracting(Component::getBomRef)
+                .containsExactly("aes-1", "key-1", "sha-2");
+        assertThat(components.getFirst().getEvidence().getOccurrences())
+                .extracting(Occurrence::getLocation)
+                .containsExactly("Crypto.java", "crypto.py");
+
+        final List<Dependency> dependencies = java.cycloneDXbom().getDependencies();
+        assertThat(dependencies).extracting(Dependency::getRef).containsExactly("key-1", "sha-2");
+        for (Dependency dependency : dependencies) {
+            assertThat(dependency.getDependencies())
+                    .extracting(Dependency::getRef)
+                    .containsExactly("aes-1");
+        }
+    }
+
+    @Test
+    void mergeRewritesReferencesToMergedComponents() throws CBOMSerializationFailed {
+        final CBOM java =
+                cbom(
+                        List.of(
+                                algorithm("aes-1", "AES", "Crypto.java", 10),
+                                key("key-1", "key", "aes-1", "Crypto.java", 11)),
+                        List.of());
+        final CBOM python =
+                cbom(
+                        List.of(
+                                key("key-2", "key", "aes-2", "crypto.py", 5),
+                                algorithm("aes-2", "AES", "crypto.py", 4),
+                                key("key-3", "secret-key", "aes-2", "crypto.py", 6)),
+                        List.of());
+
+        java.merge(python);
+
+        final List<Component> components = java.cycloneDXbom().getComponents();
+        assertThat(components)
+                .extracting(Component::getBomRef)
+                .containsExactly("aes-1", "key-1", "key-3");
+        assertThat(components.get(1).getEvidence().getOccurrences())
+                .extracting(Occurrence::getLocation)
+                .containsExactly("Crypto.java", "crypto.py");
+        assertThat(
+                        components
+                                .get(2)
+                                .getCryptoProperties()
+                                .getRelatedCryptoMaterialProperties()
+                                .getAlgorithmRef())
+                .isEqualTo("aes-1");
+        // the merged CBOM is left as it was
+        assertThat(
+                        python.cycloneDXbom()
+                                .getComponents()
+                                .get(2)
+                                .getCryptoProperties()
+                                .getRelatedCryptoMaterialProperties()
+                                .getAlgorithmRef())
+                .isEqualTo("aes-2");
+    }
+
+    private static CBOM cbom(List<Component> components, List<Dependency> dependencies) {
+        final Bom bom = new Bom();
+        bom.setComponents(new ArrayList<>(components));
+        bom.setDependencies(new ArrayList<>(dependencies));
+        return new CBOM(bom);
+    }
+
+    private static Component algorithm(String bomRef, String name, String location, int line) {
+        final CryptoProperties cryptoProperties = new CryptoProperties();
+        cryptoProperties.setAssetType(AssetType.ALGORITHM);
+        final Occurrence occurrence = new Occurrence();
+        occurrence.setLocation(location);
+        occurrence.setLine(line);
+        final Evidence evidence = new Evidence();
+        evidence.setOccurrences(List.of(occurrence));
+
+        final Component component = new Component();
+        component.setBomRef(bomRef);
+        component.setType(Component.Type.CRYPTOGRAPHIC_ASSET);
+        component.setName(name);
+        component.setCryptoProperties(cryptoProperties);
+        component.setEvidence(evidence);
+        return component;
+    }
+
+    private static Component key(
+            String bomRef, String name, String algorithmRef, String location, int line) {
+        final Component component = algorithm(bomRef, name, location, line);
+        final RelatedCryptoMaterialProperties relatedCryptoMaterialProperties =
+                new RelatedCryptoMaterialProperties();
+        relatedCryptoMaterialProperties.setAlgorithmRef(algorithmRef);
+        component.getCryptoProperties().setAssetType(AssetType.RELATED_CRYPTO_MATERIAL);
+        component
+                .getCryptoProperties()
+                .setRelatedCryptoMaterialProperties(relatedCryptoMaterialProperties);
+        return component;
+    }
+
+    private static Dependency dependency(String ref, String dependsOn) {
+        final Dependency dependency = new Dependency(ref);
+        dependency.addDependency(new Dependency(dependsOn));
+        return dependency;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ibm.infrastructure.compliance.repositories.IPolicyRepository;
+import com.ibm.infrastructure.errors.PolicyNotStored;
+import jakarta.annotation.Nonnull;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ComplianceServiceSelectorTest {
+    private static final String POLICY =
+            """
+            id = "test_policy"
+            name = "Test Policy"
+            default_assessment_level = 1
+            rule = []
+
+            [[assessment_levels]]
+            id = 1
+            label = "compliant"
+
+            [[compliance_levels]]
+            id = 1
+            label = "Acceptable"
+            description = "Approved for use"
+            color = "green"
+            icon = "CHECKMARK"
+            assessment_level = 1
+            """;
+
+    private static final class InMemoryPolicyRepository implements IPolicyRepository {
+        private final Map<String, String> policies = new LinkedHashMap<>();
+        private boolean failing;
+
+        @Nonnull
+        @Override
+        public List<PolicySource> findAll() {
+            return this.policies.entrySet().stream()
+                    .map(entry -> new PolicySource(entry.getKey(), entry.getValue()))
+                    .toList();
+        }
+
+        @Override
+        public void save(@Nonnull String id, @Nonnull String name, @Nonnull String toml)
+                throws PolicyNotStored {
+            if (this.failing) {
+                throw new PolicyNotStored(id, new IllegalStateException("database unavailable"));
+            }
+            this.policies.put(id, toml);
+        }
+
+        @Override
+        public void delete(@Nonnull String id) {
+            this.policies.remove(id);
+        }
+    }
+
+    @Test
+    void registeredPoliciesAreRestoredOnReload() throws PolicyNotStored {
+        final InMemoryPolicyRepository repository = new InMemoryPolicyRepository();
+        assertThat(new ComplianceServiceSelector(repository).registerCustomPolicy(POLICY))
+                .isEqualTo("test_policy");
+
+        final ComplianceServiceSelector restarted = new ComplianceServiceSelector(repository);
+        restarted.reload();
+
+        assertThat(restarted.getService("test_policy").getName()).isEqualTo("Test Policy");
+        assertThat(restarted.listPolicies())
+                .extracting(policy -> policy.get("id"))
+                .containsExactlyInAnyOrder(ComplianceServiceSelector.QUANTUM_SAFE, "test_policy");
+    }
+
+    @Test
+    void aPolicyThatCannotBeStoredIsNotRegistered() {
+        final InMemoryPolicyRepository repository = new InMemoryPolicyRepository();
+        repository.failing = true;
+        final ComplianceServiceSelector selector = new ComplianceServiceSelector(repository);
+
+        assertThatThrownBy(() -> selector.registerCustomPolicy(POLICY))
+                .isInstanceOf(PolicyNotStored.class);
+
+        assertThat(selector.listPolicies())
+                .extracting(policy -> policy.get("id"))
+                .containsExactly(ComplianceServiceSelector.QUANTUM_SAFE);
+        assertThat(selector.getService("test_policy"))
+                .isSameAs(selector.getService(ComplianceServiceSelector.QUANTUM_SAFE));
+    }
+}
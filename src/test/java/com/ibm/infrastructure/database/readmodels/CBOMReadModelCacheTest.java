@@ -0,0 +1,81 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class CBOMReadModelCacheTest {
+
+    private static CBOMReadModel readModel(String projectIdentifier, String commit) {
+        return new CBOMReadModel(
+                UUID.randomUUID(),
+                projectIdentifier,
+                "https://github.com/keycloak/keycloak",
+                "main",
+                null,
+                commit,
+                new Timestamp(System.currentTimeMillis()),
+                JsonNodeFactory.instance.objectNode().put("bomFormat", "CycloneDX"));
+    }
+
+    @Test
+    void savingAndDeletingReadModelsUpdatesTheCache() {
+        final CBOMReadModelCache cache = new CBOMReadModelCache(1024 * 1024, Duration.ofHours(1));
+        final CBOMReadModel previous = readModel("github.com/keycloak/keycloak", "a1");
+        cache.put(cache.generation(), previous);
+        assertThat(cache.get(previous.getId())).contains(previous);
+
+        final CBOMReadModel latest = readModel("github.com/keycloak/keycloak", "b2");
+        cache.invalidate(previous);
+        cache.refresh(latest);
+
+        assertThat(cache.get(previous.getId())).isEmpty();
+        assertThat(cache.get(latest.getId())).contains(latest);
+    }
+
+    @Test
+    void loadsStartedBeforeASaveAreNotCached() {
+        final CBOMReadModelCache cache = new CBOMReadModelCache(1024 * 1024, Duration.ofHours(1));
+        final long generation = cache.generation();
+        final CBOMReadModel stale = readModel("github.com/keycloak/keycloak", "a1");
+
+        cache.refresh(readModel("github.com/keycloak/keycloak", "b2"));
+        cache.put(generation, stale);
+
+        assertThat(cache.get(stale.getId())).isEmpty();
+    }
+
+    @Test
+    void estimatesTheSizeOfTheBom() {
+        final CBOMReadModel small = readModel("github.com/keycloak/keycloak", "a1");
+        final CBOMReadModel large = readModel("github.com/keycloak/keycloak", "a1");
+        ((ObjectNode) large.getBom()).putArray("components").add("x".repeat(10_000));
+
+        assertThat(CBOMReadModelCache.estimateBytes(large))
+                .isGreaterThan(CBOMReadModelCache.estimateBytes(small) + 10_000);
+    }
+}
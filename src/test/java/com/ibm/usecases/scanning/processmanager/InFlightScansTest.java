@@ -0,0 +1,146 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.processmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ibm.domain.scanning.authentication.PersonalAccessToken;
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.infrastructure.progress.IProgressDispatcher;
+import com.ibm.infrastructure.progress.ProgressBroadcast;
+import com.ibm.infrastructure.progress.ProgressMessage;
+import com.ibm.infrastructure.progress.ProgressMessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class InFlightScansTest {
+
+    private static final class RecordingDispatcher implements IProgressDispatcher {
+        private final List<ProgressMessage> received = new ArrayList<>();
+        private boolean connected = true;
+
+        @Override
+        public void send(ProgressMessage progressMessage) throws ClientDisconnected {
+            if (!this.connected) {
+                throw new ClientDisconnected("disconnected");
+            }
+            this.received.add(progressMessage);
+        }
+    }
+
+    private static InFlightScans.ScanKey key(String scanUrl) {
+        return InFlightScans.ScanKey.of(scanUrl, null, null, null, true);
+    }
+
+    @Test
+    void identicalRequestsShareOneScan() throws ClientDisconnected {
+        final InFlightScans inFlightScans = new InFlightScans(new SimpleMeterRegistry());
+        final RecordingDispatcher first = new RecordingDispatcher();
+        final RecordingDispatcher second = new RecordingDispatcher();
+
+        final Optional<ProgressBroadcast> leader =
+                inFlightScans.attachOrLead(key("https://github.com/keycloak/keycloak"), first);
+        assertThat(leader).isPresent();
+        leader.get().send(new ProgressMessage(ProgressMessageType.LABEL, "Cloning"));
+
+        assertThat(
+                        inFlightScans.attachOrLead(
+                                key("https://github.com/keycloak/keycloak.git/"), second))
+                .isEmpty();
+        leader.get().send(new ProgressMessage(ProgressMessageType.CBOM, "{}"));
+
+        assertThat(second.received).isEqualTo(first.received);
+    }
+
+    @Test
+    void requestsWithOtherCredentialsOrAfterTheScanStartAnew() {
+        final InFlightScans inFlightScans = new InFlightScans(new SimpleMeterRegistry());
+        final String url = "https://github.com/keycloak/keycloak";
+        final Optional<ProgressBroadcast> leader =
+                inFlightScans.attachOrLead(key(url), new RecordingDispatcher());
+        assertThat(leader).isPresent();
+
+        assertThat(
+                        inFlightScans.attachOrLead(
+                                InFlightScans.ScanKey.of(
+                                        url, "main", null, new PersonalAccessToken("t"), true),
+                                new RecordingDispatcher()))
+                .isPresent();
+
+        leader.get().close();
+        assertThat(inFlightScans.attachOrLead(key(url), new RecordingDispatcher())).isPresent();
+    }
+
+    @Test
+    void theScanIsAbandonedOnlyWhenNoClientIsLeft() throws ClientDisconnected {
+        final InFlightScans inFlightScans = new InFlightScans(new SimpleMeterRegistry());
+        final RecordingDispatcher first = new RecordingDispatcher();
+        final RecordingDispatcher second = new RecordingDispatcher();
+        final InFlightScans.ScanKey key = key("pkg:maven/org.example/lib@1.0");
+        final ProgressBroadcast broadcast = inFlightScans.attachOrLead(key, first).orElseThrow();
+        inFlightScans.attachOrLead(key, second);
+
+        first.connected = false;
+        broadcast.send(new ProgressMessage(ProgressMessageType.LABEL, "Scanning"));
+        assertThat(second.received).hasSize(1);
+
+        second.connected = false;
+        assertThatThrownBy(
+                        () ->
+                                broadcast.send(
+                                        new ProgressMessage(ProgressMessageType.LABEL, "Done")))
+                .isInstanceOf(ClientDisconnected.class);
+    }
+
+    @Test
+    void aScanFailingBeforeItStartsIsNotJoinedLater() throws Exception {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final InFlightScans inFlightScans = new InFlightScans(meterRegistry);
+        final InFlightScans.ScanKey key = key("https://github.com/keycloak/keycloak");
+
+        assertThatThrownBy(
+                        () ->
+                                inFlightScans.runOrAttach(
+                                        key,
+                                        new RecordingDispatcher(),
+                                        progressBroadcast -> {
+                                            throw new IllegalStateException("rejected");
+                                        }))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get("cbomkit.scans.inflight").gauge().value()).isZero();
+        final RecordingDispatcher next = new RecordingDispatcher();
+        assertThat(
+                        inFlightScans.runOrAttach(
+                                key,
+                                next,
+                                progressBroadcast ->
+                                        progressBroadcast.send(
+                                                new ProgressMessage(
+                                                        ProgressMessageType.LABEL, "Starting..."))))
+                .isTrue();
+        assertThat(next.received).hasSize(1);
+        assertThat(meterRegistry.get("cbomkit.scans.inflight").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.git;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class GitProgressParserTest {
+
+    @Test
+    void progressIsReportedLikeForJGit() {
+        final List<String> messages = new ArrayList<>();
+        final GitProgressParser parser = new GitProgressParser(messages::add);
+        final String stderr =
+                "Cloning into '/tmp/clone'...\n"
+                        + "remote: Counting objects:  20% (1/5)        \r"
+                        + "remote: Counting objects:  50% (2/4)        \r"
+                        + "remote: Counting objects:  53% (8/15)        \r"
+                        + "remote: Counting objects: 100% (5/5), done.        \n"
+                        + "Receiving objects:   0% (0/5)\r"
+                        + "Receiving objects: 100% (5/5), 1 KiB, done.\n"
+                        + "fatal: could not read Username\n";
+
+        parser.read(new ByteArrayInputStream(stderr.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(messages)
+                .containsExactly(
+                        "Cloning git repository: Counting objects 20%",
+                        "Cloning git repository: Counting objects 50%",
+                        "Cloning git repository: Counting objects 100%",
+                        "Cloning git repository: Counting objects done",
+                        "Cloning git repository: Receiving objects 0%",
+                        "Cloning git repository: Receiving objects 100%",
+                        "Cloning git repository: Receiving objects done");
+        assertThat(parser.lastMessage()).isEqualTo("fatal: could not read Username");
+    }
+
+    @Test
+    void conePatternsIncludeTheFilesOfTheParentDirectories() {
+        assertThat(NativeGitBackend.conePatterns("services/crypto"))
+                .isEqualTo("/*\n!/*/\n/services/\n!/services/*/\n/services/crypto/\n");
+        assertThat(GitService.sparseFolder(Path.of("/services/crypto/")))
+                .isEqualTo("services/crypto");
+    }
+}
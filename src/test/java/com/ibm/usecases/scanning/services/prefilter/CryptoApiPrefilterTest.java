@@ -0,0 +1,69 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.prefilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ibm.domain.scanning.Language;
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.usecases.scanning.services.indexing.JavaIndexService;
+import com.ibm.usecases.scanning.services.indexing.ProjectModule;
+import java.io.File;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.sonar.api.batch.fs.InputFile;
+
+class CryptoApiPrefilterTest {
+
+    @Test
+    void keepsFilesReferringToCryptoApis() throws ClientDisconnected {
+        final List<ProjectModule> index =
+                new JavaIndexService(
+                                progressMessage -> {}, new File("src/test/testdata/java/keycloak"))
+                        .index(null);
+
+        final PrefilterResult result = CryptoApiPrefilter.forLanguage(Language.JAVA).filter(index);
+
+        assertThat(result.totalFiles()).isEqualTo(31);
+        assertThat(result.matchedFiles()).isEqualTo(14);
+        assertThat(result.scannedFiles()).isEqualTo(18);
+        final List<String> keptFiles =
+                result.modules().stream()
+                        .flatMap(module -> module.inputFileList().stream())
+                        .map(InputFile::filename)
+                        .toList();
+        assertThat(keptFiles)
+                .contains(
+                        "Argon2PasswordHashProvider.java",
+                        "DefaultHttpClientFactory.java",
+                        "ProxyMappings.java")
+                .doesNotContain("WebAuthnConstants.java");
+    }
+
+    @Test
+    void keywordMatcher() {
+        final KeywordMatcher matcher = new KeywordMatcher(List.of("javax.crypto", "crypt"));
+
+        assertThat(matcher.containsAny("import javax.crypto.Cipher;")).isTrue();
+        assertThat(matcher.containsAny("encrypted")).isTrue();
+        assertThat(matcher.containsAny("import java.util.List;")).isFalse();
+        assertThat(matcher.containsAny("")).isFalse();
+    }
+}
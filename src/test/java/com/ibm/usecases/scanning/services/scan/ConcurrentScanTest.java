@@ -0,0 +1,141 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 IBM
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ibm.domain.scanning.CBOM;
+import com.ibm.domain.scanning.Commit;
+import com.ibm.domain.scanning.GitUrl;
+import com.ibm.domain.scanning.Revision;
+import com.ibm.infrastructure.Configuration;
+import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.infrastructure.progress.IProgressDispatcher;
+import com.ibm.usecases.scanning.services.indexing.JavaIndexService;
+import com.ibm.usecases.scanning.services.indexing.ProjectModule;
+import com.ibm.usecases.scanning.services.indexing.PythonIndexService;
+import com.ibm.usecases.scanning.services.scan.java.JavaScannerService;
+import com.ibm.usecases.scanning.services.scan.python.PythonScannerService;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.component.evidence.Occurrence;
+import org.junit.jupiter.api.Test;
+
+/** Runs java and python scans in parallel and checks that each finds exactly its own results. */
+class ConcurrentScanTest {
+    private static final IProgressDispatcher NO_PROGRESS = progressMessage -> {};
+    private static final File JAVA_PROJECT = new File("src/test/testdata/java/keycloak");
+    private static final File PYTHON_PROJECT = new File("src/test/testdata/python/pyca");
+    private static final int SCANS_PER_LANGUAGE = 4;
+
+    @FunctionalInterface
+    private interface Scan {
+        @Nullable CBOM run() throws ClientDisconnected;
+    }
+
+    @Test
+    void parallelScansDoNotShareDetections() throws Exception {
+        final String javaJars = new Configuration().getJavaDependencyJARSPath();
+        final List<ProjectModule> javaIndex =
+                new JavaIndexService(NO_PROGRESS, JAVA_PROJECT).index(null);
+        final List<ProjectModule> pythonIndex =
+                new PythonIndexService(NO_PROGRESS, PYTHON_PROJECT).index(null);
+        final Scan javaScan =
+                () ->
+                        new JavaScannerService(NO_PROGRESS, javaJars, JAVA_PROJECT, false)
+                                .scan(
+                                        new GitUrl("https://github.com/keycloak/keycloak"),
+                                        new Revision("main"),
+                                        new Commit("9c2825eb0e64aa7ea40b8dc3605d37046f6a24cb"),
+                                        null,
+                                        javaIndex)
+                                .cbom();
+        final Scan pythonScan =
+                () ->
+                        new PythonScannerService(NO_PROGRESS, PYTHON_PROJECT, false)
+                                .scan(
+                                        new GitUrl("https://github.com/pyca/cryptography"),
+                                        new Revision("main"),
+                                        new Commit("9c2825eb0e64aa7ea40b8dc3605d37046f6a24cb"),
+                                        null,
+                                        pythonIndex)
+                                .cbom();
+        // sequential scans as reference
+        final List<String> javaDetections = detections(javaScan.run());
+        final List<String> pythonDetections = detections(pythonScan.run());
+        assertThat(javaDetections).isNotEmpty();
+        assertThat(pythonDetections).isNotEmpty();
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<List<String>>> javaResults = new ArrayList<>();
+        final List<Future<List<String>>> pythonResults = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(2 * SCANS_PER_LANGUAGE)) {
+            for (int i = 0; i < SCANS_PER_LANGUAGE; i++) {
+                javaResults.add(executor.submit(() -> awaitAndRun(start, javaScan)));
+                pythonResults.add(executor.submit(() -> awaitAndRun(start, pythonScan)));
+            }
+            start.countDown();
+            for (Future<List<String>> result : javaResults) {
+                assertThat(result.get()).isEqualTo(javaDetections);
+            }
+            for (Future<List<String>> result : pythonResults) {
+                assertThat(result.get()).isEqualTo(pythonDetections);
+            }
+        }
+    }
+
+    @Nonnull
+    private static List<String> awaitAndRun(@Nonnull CountDownLatch start, @Nonnull Scan scan)
+            throws Exception {
+        start.await();
+        return detections(scan.run());
+    }
+
+    @Nonnull
+    private static List<String> detections(@Nullable CBOM cbom) {
+        final List<String> detections = new ArrayList<>();
+        final List<Component> components =
+                Optional.ofNullable(cbom)
+                        .map(CBOM::cycloneDXbom)
+                        .map(Bom::getComponents)
+                        .orElse(List.of());
+        for (Component component : components) {
+            for (Occurrence occurrence : component.getEvidence().getOccurrences()) {
+                detections.add(
+                        component.getName()
+                                + " at "
+                                + occurrence.getLocation()
+                                + ":"
+                                + occurrence.getLine());
+            }
+        }
+        return detections.stream().sorted().toList();
+    }
+}